@@ -0,0 +1,71 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.ai.MctsStrategy;
+import com.cardgame.model.ai.PriorityStrategy;
+import com.cardgame.model.game.GameEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The decision the play screen asks the computer player for on its turn,
+ * over a fixed set of seeded mid-game positions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ComputerDecisionBenchmark {
+    private static final int POSITIONS = 64;
+    private static final int TURNS_PLAYED = 12;
+
+    /** Search iterations per MCTS decision; fixed so the work doesn't depend on the machine. */
+    @Param({"1000"})
+    public int mctsIterations;
+
+    private GameEngine[] positions;
+    private int next;
+    private ComputerStrategy priority;
+    private ComputerStrategy mcts;
+
+    @Setup
+    public void setUp() {
+        priority = new PriorityStrategy();
+        List<GameEngine> engines = new ArrayList<>();
+        for (long seed = Seeds.BASE; engines.size() < POSITIONS; seed++) {
+            GameEngine engine = Seeds.midGame(seed, TURNS_PLAYED, priority);
+            if (engine != null) {
+                engines.add(engine);
+            }
+        }
+        positions = engines.toArray(new GameEngine[0]);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetIteration() {
+        next = 0;
+        // A long time budget, so the iteration limit always ends the search
+        mcts = new MctsStrategy(60_000, mctsIterations, Seeds.BASE);
+    }
+
+    private GameEngine nextPosition() {
+        GameEngine engine = positions[next];
+        next = (next + 1) % POSITIONS;
+        return engine;
+    }
+
+    @Benchmark
+    public int priorityStrategy() {
+        return priority.chooseCard(nextPosition());
+    }
+
+    @Benchmark
+    public int mctsStrategy() {
+        return mcts.chooseCard(nextPosition());
+    }
+}
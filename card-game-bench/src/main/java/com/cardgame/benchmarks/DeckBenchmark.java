@@ -0,0 +1,53 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.card.Deck;
+import com.cardgame.model.game.GameEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building, shuffling and drawing from a deck.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    private SplittableRandom random;
+    private Deck deck;
+    private final byte[] hand = new byte[GameEngine.INITIAL_HAND_SIZE];
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        random = new SplittableRandom(Seeds.BASE);
+        deck = new Deck(new SplittableRandom(Seeds.BASE));
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck(random);
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Draws a hand and discards it again, so the draw pile keeps running out
+     * and the discard pile is recycled every few calls.
+     */
+    @Benchmark
+    public int drawWithRecycling() {
+        int drawn = deck.draw(hand.length, hand);
+        for (int i = 0; i < drawn; i++) {
+            deck.discard(hand[i]);
+        }
+        return drawn;
+    }
+}
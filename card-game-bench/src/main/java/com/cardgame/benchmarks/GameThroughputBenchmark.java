@@ -0,0 +1,45 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.ai.PriorityStrategy;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+import com.cardgame.simulation.Tournament;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complete headless games between four computer players, each game from
+ * the next seed of a fixed sequence.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GameThroughputBenchmark {
+    private List<Player> players;
+    private ComputerStrategy strategy;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        players = Seeds.computerPlayers();
+        strategy = new PriorityStrategy();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetSeed() {
+        seed = Seeds.BASE;
+    }
+
+    @Benchmark
+    public int playGame() {
+        GameEngine engine = new GameEngine(seed++, players);
+        Tournament.playGame(engine, strategy);
+        return engine.getTurnCount();
+    }
+}
@@ -0,0 +1,74 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.card.Card;
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.card.Deck;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking whether cards can be played, one card and one hand at a time.
+ * Each call goes through a fixed set of seeded inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MatchingBenchmark {
+    private static final int INPUTS = 1024;
+
+    private final Card[] cards = new Card[INPUTS];
+    private final Card[] topCards = new Card[INPUTS];
+    private final int[] topCodes = new int[INPUTS];
+    private final Player[] hands = new Player[INPUTS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Seeds.BASE);
+        byte[] hand = new byte[GameEngine.INITIAL_HAND_SIZE];
+        for (int i = 0; i < INPUTS; i++) {
+            Deck deck = new Deck(random.split());
+            cards[i] = Card.faceUpView(deck.draw());
+            topCodes[i] = deck.draw();
+            topCards[i] = Card.faceUpView(topCodes[i]);
+            hands[i] = new Player("Player", false);
+            hands[i].addCards(hand, deck.draw(hand.length, hand));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public int cardMatches() {
+        int matches = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            if (cards[i].matches(topCards[i])) matches++;
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public int cardCodeMatches() {
+        int matches = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            if (CardCode.matches(cards[i].getCode(), topCodes[i])) matches++;
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public int hasPlayableCard() {
+        int playable = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            if (hands[i].hasPlayableCard(topCodes[i])) playable++;
+        }
+        return playable;
+    }
+}
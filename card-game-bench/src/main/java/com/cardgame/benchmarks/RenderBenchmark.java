@@ -0,0 +1,96 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.card.Card;
+import com.cardgame.model.card.CardCode;
+import com.cardgame.view.animations.GameOutcome;
+import com.cardgame.view.sprites.CardRenderer;
+import com.cardgame.view.sprites.CardSpriteAtlas;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing cards and outcome animations into an off-screen image.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+    private static final int HAND_SIZE = 7;
+    private static final int OUTCOME_ROULETTE_FRAMES = 120;
+
+    private BufferedImage screen;
+    private Graphics2D g2d;
+    private final Card[] hand = new Card[HAND_SIZE];
+
+    @Setup
+    public void setUp() {
+        screen = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+        g2d = screen.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        SplittableRandom random = new SplittableRandom(Seeds.BASE);
+        for (int i = 0; i < HAND_SIZE; i++) {
+            int code = CardCode.fromIndices(random.nextInt(4), random.nextInt(CardCode.SPECIAL_VALUE + 1));
+            hand[i] = Card.faceUpView(code);
+        }
+
+        GameOutcome.loadOutcomeImages();
+        GameOutcome.setRandom(new SplittableRandom(Seeds.BASE));
+        GameOutcome.resetAnimation();
+        // Get past the roulette, which is only shown once per game,
+        // so every call measures the same looping punishment animation
+        for (int frame = 0; frame < OUTCOME_ROULETTE_FRAMES; frame++) {
+            GameOutcome.getRandomOutcomeImage();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    /**
+     * A full hand as the play screen lays it out, drawn from the sprite cache.
+     */
+    @Benchmark
+    public BufferedImage renderHand() {
+        for (int i = 0; i < HAND_SIZE; i++) {
+            CardRenderer.render(g2d, hand[i], 100 + i * 100, 400, 80, 120);
+        }
+        return screen;
+    }
+
+    /**
+     * A full hand with the sprite cache emptied first, so every card is rasterized.
+     */
+    @Benchmark
+    public BufferedImage renderHandUncached() {
+        CardSpriteAtlas.clear();
+        return renderHand();
+    }
+
+    /**
+     * One frame of the punishment animation, replayed from the frame cache.
+     */
+    @Benchmark
+    public BufferedImage outcomeImage() {
+        return GameOutcome.getRandomOutcomeImage();
+    }
+
+    /**
+     * One frame of the punishment animation with the frame cache emptied first, so it is rendered.
+     */
+    @Benchmark
+    public BufferedImage outcomeImageUncached() {
+        GameOutcome.clearFrameCache();
+        return GameOutcome.getRandomOutcomeImage();
+    }
+}
@@ -0,0 +1,44 @@
+package com.cardgame.benchmarks;
+
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed inputs shared by the benchmarks, so every run measures the same games.
+ */
+final class Seeds {
+    static final long BASE = 42L;
+    static final int SEATS = 4;
+
+    private Seeds() {
+    }
+
+    static List<Player> computerPlayers() {
+        List<Player> players = new ArrayList<>(SEATS);
+        for (int i = 0; i < SEATS; i++) {
+            players.add(new Player("Computer " + (i + 1), true));
+        }
+        return players;
+    }
+
+    /**
+     * Deals a seeded game and plays it for a few turns, so hands and the discard
+     * pile look like the middle of a game. Returns null if the game ended already.
+     */
+    static GameEngine midGame(long seed, int turns, ComputerStrategy strategy) {
+        GameEngine engine = new GameEngine(seed, computerPlayers());
+        for (int turn = 0; turn < turns && !engine.isGameOver(); turn++) {
+            int playIndex = strategy.chooseCard(engine);
+            if (playIndex != -1) {
+                engine.playCard(playIndex);
+            } else {
+                engine.drawAndPlay();
+            }
+        }
+        return engine.isGameOver() ? null : engine;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cardgame.simulation;
+
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.ai.StrategyType;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+import com.cardgame.model.replay.Replay;
+import com.cardgame.model.replay.ReplayWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records computer games as replay logs and plays logs back without a
+ * screen, as fast as the engine allows.
+ */
+public class ReplayTool {
+
+    /**
+     * Records games the same way a tournament plays them.
+     *
+     * @param directory The directory to write the logs to
+     * @param games The number of games to record
+     * @param seats The number of computer players per game
+     * @param seed The base seed
+     */
+    public static void record(Path directory, int games, int seats, long seed) throws IOException {
+        ComputerStrategy strategy = StrategyType.SIMPLE.create();
+        List<Player> players = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            players.add(new Player("Computer " + (i + 1), true));
+        }
+
+        for (int game = 0; game < games; game++) {
+            long gameSeed = Tournament.gameSeed(seed, game);
+            GameEngine engine = new GameEngine(gameSeed, players);
+            Path file = directory.resolve(String.format("game-%06d.replay", game));
+            ReplayWriter writer = ReplayWriter.create(file, gameSeed, engine);
+            try {
+                Tournament.playGame(engine, strategy);
+            } finally {
+                writer.close();
+            }
+            if (writer.isFailed()) {
+                throw writer.getError();
+            }
+        }
+    }
+
+    /**
+     * Plays a log back to its end, checking it against the engine.
+     *
+     * @param file The log to play
+     * @return The replayed game
+     * @throws IOException If the log can't be read
+     * @throws IllegalStateException If the game no longer matches the log
+     */
+    public static GameEngine replay(Path file) throws IOException {
+        try (Replay replay = Replay.open(file)) {
+            replay.playToEnd();
+            return replay.getEngine();
+        }
+    }
+
+    /**
+     * Usage: ReplayTool record [directory] [games] [seats] [seed]
+     * or ReplayTool play [files...]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("record")) {
+            Path directory = Path.of(args.length > 1 ? args[1] : "replays");
+            int games = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+            int seats = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+            Files.createDirectories(directory);
+            record(directory, games, seats, seed);
+            System.out.println("Recorded " + games + " games to " + directory);
+        } else if (args.length > 1 && args[0].equals("play")) {
+            int failed = 0;
+            for (int i = 1; i < args.length; i++) {
+                Path file = Path.of(args[i]);
+                try {
+                    GameEngine engine = replay(file);
+                    String outcome = engine.isGameOver() ? engine.getWinner().getName() + " won" : "unfinished";
+                    System.out.println(file + ": " + outcome + " after " + engine.getTurnCount()
+                            + " turns (" + Files.size(file) + " bytes)");
+                } catch (IOException | IllegalStateException e) {
+                    System.out.println(file + ": " + e.getMessage());
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                System.exit(1);
+            }
+        } else {
+            System.err.println("Usage: ReplayTool record [directory] [games] [seats] [seed]");
+            System.err.println("       ReplayTool play <files...>");
+            System.exit(2);
+        }
+    }
+}
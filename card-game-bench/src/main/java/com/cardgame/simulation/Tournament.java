@@ -0,0 +1,186 @@
+package com.cardgame.simulation;
+
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.ai.MctsStrategy;
+import com.cardgame.model.ai.StrategyType;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays large batches of computer-vs-computer games in parallel on a
+ * fork-join pool. Every game gets its own seed derived from the base seed
+ * and the game number, and every worker's strategy a seed derived from its
+ * first game, so results do not depend on the number of threads. That only
+ * holds for strategies whose decisions depend on nothing but the game and
+ * their seed; a search stopped by a time budget is not, which is why the
+ * command line runs MCTS on a fixed number of iterations.
+ */
+public class Tournament {
+    /** Games longer than this are abandoned and counted as unfinished. */
+    public static final int MAX_TURNS = 10_000;
+
+    private static final int GAMES_PER_TASK = 256;
+
+    /** Iterations per MCTS decision; the time limit only guards against runaway searches. */
+    private static final int MCTS_ITERATIONS = 2_000;
+    private static final long MCTS_TIME_LIMIT_MILLIS = 60_000;
+
+    private final int games;
+    private final int seats;
+    private final long seed;
+    private final LongFunction<ComputerStrategy> strategyFactory;
+
+    /**
+     * Creates a tournament.
+     *
+     * @param games The number of games to play
+     * @param seats The number of computer players per game
+     * @param seed The base seed; the same seed always gives the same results
+     * @param strategyFactory Creates the strategy used by each worker from a seed
+     */
+    public Tournament(int games, int seats, long seed, LongFunction<ComputerStrategy> strategyFactory) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative");
+        }
+        if (seats < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two seats");
+        }
+        this.games = games;
+        this.seats = seats;
+        this.seed = seed;
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * Plays all games on the given pool.
+     *
+     * @param pool The pool to run on
+     * @return The combined statistics
+     */
+    public TournamentResult run(ForkJoinPool pool) {
+        long start = System.nanoTime();
+        TournamentResult result = pool.invoke(new GameRangeTask(0, games));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays all games on the common fork-join pool.
+     *
+     * @return The combined statistics
+     */
+    public TournamentResult run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Derives the seed of a single game, using the SplitMix64 finalizer so
+     * neighbouring game numbers get unrelated seeds.
+     */
+    static long gameSeed(long baseSeed, long gameNumber) {
+        long z = baseSeed + (gameNumber + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private class GameRangeTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GameRangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playRange();
+            }
+            int mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, mid);
+            left.fork();
+            TournamentResult right = new GameRangeTask(mid, to).compute();
+            return right.merge(left.join());
+        }
+
+        private TournamentResult playRange() {
+            // Each worker reuses its own players and strategy; nothing is shared between tasks
+            ComputerStrategy strategy = strategyFactory.apply(gameSeed(~seed, from));
+            List<Player> players = new ArrayList<>(seats);
+            for (int i = 0; i < seats; i++) {
+                players.add(new Player("Computer " + (i + 1), true));
+            }
+
+            TournamentResult result = new TournamentResult(seats);
+            for (int game = from; game < to; game++) {
+                GameEngine engine = new GameEngine(gameSeed(seed, game), players);
+                playGame(engine, strategy);
+                if (engine.isGameOver()) {
+                    result.recordWin(engine.getWinnerIndex(), engine.getTurnCount());
+                } else {
+                    result.recordUnfinished(engine.getTurnCount());
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Plays a game to the end, or until {@link #MAX_TURNS} is reached.
+     *
+     * @param engine The game to play
+     * @param strategy The strategy used for every seat
+     */
+    public static void playGame(GameEngine engine, ComputerStrategy strategy) {
+        while (!engine.isGameOver() && engine.getTurnCount() < MAX_TURNS) {
+            playTurn(engine, strategy);
+        }
+    }
+
+    /**
+     * Plays one computer turn the same way the play screen does: play the
+     * chosen card, or draw and play the drawn card if it matches.
+     */
+    static void playTurn(GameEngine engine, ComputerStrategy strategy) {
+        int playIndex = strategy.chooseCard(engine);
+        if (playIndex != -1) {
+            engine.playCard(playIndex);
+        } else {
+            engine.drawAndPlay();
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line.
+     * Usage: Tournament [games] [seats] [seed] [threads] [SIMPLE|MCTS]
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        StrategyType strategy = args.length > 4 ? StrategyType.valueOf(args[4].toUpperCase()) : StrategyType.SIMPLE;
+
+        System.out.println("Playing " + games + " games with " + seats + " seats on " + threads + " threads (seed " + seed + ")");
+        LongFunction<ComputerStrategy> strategyFactory = strategy == StrategyType.MCTS
+                ? workerSeed -> new MctsStrategy(MCTS_TIME_LIMIT_MILLIS, MCTS_ITERATIONS, workerSeed)
+                : workerSeed -> strategy.create();
+        Tournament tournament = new Tournament(games, seats, seed, strategyFactory);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.print(tournament.run(pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.cardgame.simulation;
+
+/**
+ * Aggregated statistics of a batch of simulated games.
+ * Partial results from worker tasks are combined with {@link #merge}.
+ */
+public class TournamentResult {
+    private final long[] winsBySeat;
+    private long gamesPlayed;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long elapsedNanos;
+
+    public TournamentResult(int seats) {
+        this.winsBySeat = new long[seats];
+    }
+
+    void recordWin(int seat, int turns) {
+        winsBySeat[seat]++;
+        gamesPlayed++;
+        totalTurns += turns;
+    }
+
+    void recordUnfinished(int turns) {
+        unfinishedGames++;
+        gamesPlayed++;
+        totalTurns += turns;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Adds the counts of another partial result to this one.
+     *
+     * @param other The result to add
+     * @return This result
+     */
+    TournamentResult merge(TournamentResult other) {
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        gamesPlayed += other.gamesPlayed;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        return this;
+    }
+
+    public int getSeats() {
+        return winsBySeat.length;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return gamesPlayed == 0 ? 0 : (double) winsBySeat[seat] / gamesPlayed;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public double getAverageGameLength() {
+        return gamesPlayed == 0 ? 0 : (double) totalTurns / gamesPlayed;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gamesPlayed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games played:     %d (%d unfinished)%n", gamesPlayed, unfinishedGames));
+        sb.append(String.format("Elapsed:          %.2f s%n", elapsedNanos / 1_000_000_000.0));
+        sb.append(String.format("Games/sec:        %.0f%n", getGamesPerSecond()));
+        sb.append(String.format("Avg game length:  %.2f turns%n", getAverageGameLength()));
+        for (int i = 0; i < winsBySeat.length; i++) {
+            sb.append(String.format("Seat %d win rate:  %.2f%%%n", i + 1, getWinRate(i) * 100));
+        }
+        return sb.toString();
+    }
+}
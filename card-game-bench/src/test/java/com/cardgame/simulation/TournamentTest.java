@@ -0,0 +1,47 @@
+package com.cardgame.simulation;
+
+import com.cardgame.model.ai.MctsStrategy;
+import com.cardgame.model.ai.PriorityStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TournamentTest {
+    private static final long SEED = 42L;
+
+    @Test
+    void resultsDoNotDependOnParallelism() {
+        // More games than one task plays, so the range is split
+        Tournament tournament = new Tournament(1_000, 4, SEED, seed -> new PriorityStrategy());
+
+        assertSameResults(run(tournament, 1), run(tournament, 4));
+    }
+
+    @Test
+    void mctsWithAnIterationLimitIsReproducible() {
+        // The time limit is only a safeguard, the iteration limit always ends the search
+        Tournament tournament = new Tournament(300, 3, SEED, seed -> new MctsStrategy(60_000, 20, seed));
+
+        assertSameResults(run(tournament, 1), run(tournament, 3));
+    }
+
+    private static TournamentResult run(Tournament tournament, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return tournament.run(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameResults(TournamentResult expected, TournamentResult actual) {
+        assertEquals(expected.getGamesPlayed(), actual.getGamesPlayed());
+        assertEquals(expected.getUnfinishedGames(), actual.getUnfinishedGames());
+        assertEquals(expected.getAverageGameLength(), actual.getAverageGameLength());
+        for (int seat = 0; seat < expected.getSeats(); seat++) {
+            assertEquals(expected.getWins(seat), actual.getWins(seat), "wins of seat " + seat);
+        }
+    }
+}
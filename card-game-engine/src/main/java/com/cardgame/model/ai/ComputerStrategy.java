@@ -0,0 +1,16 @@
+package com.cardgame.model.ai;
+
+import com.cardgame.model.game.GameEngine;
+
+/**
+ * Decides which card a computer player plays on its turn.
+ */
+public interface ComputerStrategy {
+    /**
+     * Chooses a card for the engine's current player.
+     *
+     * @param engine The game in progress
+     * @return The hand index of the card to play, or -1 to draw a card
+     */
+    int chooseCard(GameEngine engine);
+}
@@ -0,0 +1,408 @@
+package com.cardgame.model.ai;
+
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Computer player using Information-Set Monte Carlo Tree Search.
+ *
+ * The other players' hands are hidden, so every iteration first guesses them
+ * with {@link GameEngine#determinize}, then walks the tree using only the
+ * moves that are legal in that guess, and finishes the game with a fast
+ * random playout on the headless engine. The most visited move at the root
+ * is played once the time budget is used up.
+ *
+ * The search can use several cores, see {@link Parallelism}.
+ */
+public class MctsStrategy implements ComputerStrategy {
+    /** Move id for drawing a card; card codes use ids below it. */
+    static final int DRAW = 63;
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_PLAYOUT_TURNS = 1_000;
+    private static final int VIRTUAL_LOSS = 1;
+
+    /**
+     * How the search is spread over several threads.
+     */
+    public enum Parallelism {
+        /** One tree searched by the calling thread. */
+        SINGLE,
+        /** One tree per thread; visit counts at the root are added up at the end. */
+        ROOT,
+        /** One tree shared by all threads, with atomic counters and virtual loss. */
+        TREE
+    }
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final SplittableRandom random;
+    private final Parallelism parallelism;
+    private final int threads;
+    private int lastIterations;
+
+    /**
+     * Creates a single-threaded strategy that thinks for a fixed time per move.
+     *
+     * @param budgetMillis The time budget per decision in milliseconds
+     */
+    public MctsStrategy(long budgetMillis) {
+        this(budgetMillis, Parallelism.SINGLE, 1);
+    }
+
+    /**
+     * Creates a strategy that thinks for a fixed time per move on several threads.
+     * All strategies share one pool with a thread per core, so the searches of
+     * several computer players never run on more threads than that.
+     *
+     * @param budgetMillis The time budget per decision in milliseconds
+     * @param parallelism How the search is spread over the threads
+     * @param threads The number of searches run side by side
+     */
+    public MctsStrategy(long budgetMillis, Parallelism parallelism, int threads) {
+        this(budgetMillis, Integer.MAX_VALUE, new SplittableRandom(), parallelism, threads);
+    }
+
+    /**
+     * Creates a single-threaded strategy with a time budget and an iteration
+     * limit, seeded so its decisions can be reproduced when the limit is
+     * reached first.
+     *
+     * @param budgetMillis The time budget per decision in milliseconds
+     * @param maxIterations The maximum number of iterations per decision
+     * @param seed The seed for guessing hidden cards and for playouts
+     */
+    public MctsStrategy(long budgetMillis, int maxIterations, long seed) {
+        this(budgetMillis, maxIterations, new SplittableRandom(seed), Parallelism.SINGLE, 1);
+    }
+
+    private MctsStrategy(long budgetMillis, int maxIterations, SplittableRandom random,
+                         Parallelism parallelism, int threads) {
+        if (budgetMillis <= 0 || maxIterations <= 0) {
+            throw new IllegalArgumentException("The search needs a positive budget");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("The search needs at least one thread");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.random = random;
+        this.parallelism = threads == 1 ? Parallelism.SINGLE : parallelism;
+        this.threads = threads;
+    }
+
+    @Override
+    public int chooseCard(GameEngine engine) {
+        Player self = engine.getCurrentPlayer();
+        long legal = legalMoves(engine);
+
+        // Only one option, no need to search
+        if (Long.bitCount(legal) == 1) {
+            lastIterations = 0;
+            return toHandIndex(self, Long.numberOfTrailingZeros(legal));
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        AtomicInteger iterationsLeft = new AtomicInteger(maxIterations);
+        int[] rootVisits = new int[DRAW + 1];
+        switch (parallelism) {
+            case SINGLE: {
+                Node root = new Node(null, -1, -1);
+                lastIterations = search(engine, root, random, deadline, iterationsLeft, 0);
+                root.addVisitsTo(rootVisits);
+                break;
+            }
+            case ROOT: {
+                Node[] roots = new Node[threads];
+                for (int i = 0; i < threads; i++) {
+                    roots[i] = new Node(null, -1, -1);
+                }
+                lastIterations = runOnAllThreads(engine, roots, deadline, iterationsLeft, 0);
+                for (Node root : roots) {
+                    root.addVisitsTo(rootVisits);
+                }
+                break;
+            }
+            case TREE: {
+                Node root = new Node(null, -1, -1);
+                Node[] roots = new Node[threads];
+                Arrays.fill(roots, root);
+                lastIterations = runOnAllThreads(engine, roots, deadline, iterationsLeft, VIRTUAL_LOSS);
+                root.addVisitsTo(rootVisits);
+                break;
+            }
+        }
+
+        int bestMove = Long.numberOfTrailingZeros(legal);
+        for (int move = 0; move < rootVisits.length; move++) {
+            if (rootVisits[move] > rootVisits[bestMove]) {
+                bestMove = move;
+            }
+        }
+        return toHandIndex(self, bestMove);
+    }
+
+    /**
+     * Searches the given roots in parallel, one thread per entry.
+     *
+     * @return The total number of iterations run
+     */
+    private int runOnAllThreads(GameEngine engine, Node[] roots, long deadline,
+                                AtomicInteger iterationsLeft, int virtualLoss) {
+        ForkJoinPool pool = SearchPool.POOL;
+        List<ForkJoinTask<Integer>> tasks = new ArrayList<>(roots.length);
+        for (Node root : roots) {
+            // Split on this thread so every worker gets its own random stream
+            SplittableRandom workerRandom = random.split();
+            tasks.add(pool.submit(() -> search(engine, root, workerRandom, deadline, iterationsLeft, virtualLoss)));
+        }
+        int iterations = 0;
+        for (ForkJoinTask<Integer> task : tasks) {
+            iterations += task.join();
+        }
+        return iterations;
+    }
+
+    /**
+     * Gets the number of iterations the last decision used, over all threads.
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    public Parallelism getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs iterations on a tree until the deadline or until no iterations are left.
+     * The engine is only read, so several threads may search it at once.
+     *
+     * @param virtualLoss Visits added to each node on the way down and removed
+     *                    again on the way up, steering other threads elsewhere
+     * @return The number of iterations run
+     */
+    static int search(GameEngine engine, Node root, SplittableRandom random, long deadline,
+                      AtomicInteger iterationsLeft, int virtualLoss) {
+        int observer = engine.getCurrentPlayerIndex();
+        int iterations = 0;
+        while (System.nanoTime() < deadline && iterationsLeft.getAndDecrement() > 0) {
+            GameEngine state = engine.determinize(observer, random);
+            Node node = root;
+
+            // Selection and expansion
+            while (!state.isGameOver()) {
+                long legal = legalMoves(state);
+                long untried = legal & ~node.childMoves.get();
+                node.countAvailability(legal);
+                if (untried != 0) {
+                    int move = randomBit(untried, random);
+                    Node child = node.addChild(move, state.getCurrentPlayerIndex(), virtualLoss);
+                    if (child != null) {
+                        applyMove(state, move);
+                        node = child;
+                        break;
+                    }
+                    // Another thread expanded this move first, select as usual
+                }
+                Node next = node.select(legal);
+                if (next == null) {
+                    // Only children still being added by other threads; play out from here
+                    break;
+                }
+                next.visits.addAndGet(virtualLoss);
+                applyMove(state, next.move);
+                node = next;
+            }
+
+            playout(state, random);
+
+            // Backpropagation: each node is scored for the player who made its move
+            int winner = state.getWinnerIndex();
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits.addAndGet(n == root ? 1 : 1 - virtualLoss);
+                if (n.seat == winner) {
+                    n.wins.incrementAndGet();
+                }
+            }
+            iterations++;
+        }
+        return iterations;
+    }
+
+    /**
+     * Gets the legal moves of the current player as a bit set of move ids.
+     */
+    static long legalMoves(GameEngine state) {
+        Player player = state.getCurrentPlayer();
+        long playable = CardCode.matchMask(state.getTopCard());
+        long moves = 1L << DRAW;
+        for (int i = 0; i < player.handSize(); i++) {
+            moves |= playable & (1L << player.cardAt(i));
+        }
+        return moves;
+    }
+
+    static void applyMove(GameEngine state, int move) {
+        if (move == DRAW) {
+            state.drawAndPlay();
+        } else {
+            state.playCard(toHandIndex(state.getCurrentPlayer(), move));
+        }
+    }
+
+    static int toHandIndex(Player player, int move) {
+        if (move == DRAW) {
+            return -1;
+        }
+        for (int i = 0; i < player.handSize(); i++) {
+            if (player.cardAt(i) == move) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Plays random matching cards until the game ends.
+     */
+    private static void playout(GameEngine state, SplittableRandom random) {
+        int turnLimit = state.getTurnCount() + MAX_PLAYOUT_TURNS;
+        while (!state.isGameOver() && state.getTurnCount() < turnLimit) {
+            Player player = state.getCurrentPlayer();
+            int topCard = state.getTopCard();
+            int playable = player.countPlayableCards(topCard);
+            if (playable == 0) {
+                state.drawAndPlay();
+                continue;
+            }
+            int pick = random.nextInt(playable);
+            for (int i = 0; i < player.handSize(); i++) {
+                if (CardCode.matches(player.cardAt(i), topCard) && pick-- == 0) {
+                    state.playCard(i);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int randomBit(long bits, SplittableRandom random) {
+        int pick = random.nextInt(Long.bitCount(bits));
+        for (int i = 0; i < pick; i++) {
+            bits &= bits - 1;
+        }
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * The threads shared by every parallel search, created on first use.
+     * Fork-join workers are daemon threads, so the pool never needs shutting down.
+     */
+    private static final class SearchPool {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * A node of the search tree, reached by one move from its parent.
+     * All counters are atomic so one tree can be searched by several threads
+     * without locks; children are published through a copy-on-write array.
+     */
+    static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        final Node parent;
+        final int move;
+        final int seat;  // the player who made the move
+        final AtomicReference<Node[]> children = new AtomicReference<>(NO_CHILDREN);
+        final AtomicLong childMoves = new AtomicLong();
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicInteger availability = new AtomicInteger();
+        final AtomicInteger wins = new AtomicInteger();
+
+        Node(Node parent, int move, int seat) {
+            this.parent = parent;
+            this.move = move;
+            this.seat = seat;
+        }
+
+        /**
+         * Adds a child for a move, unless another thread already claimed it.
+         *
+         * @return The new child, or null if the move was already expanded
+         */
+        Node addChild(int move, int seat, int virtualLoss) {
+            long bit = 1L << move;
+            long claimed;
+            do {
+                claimed = childMoves.get();
+                if ((claimed & bit) != 0) {
+                    return null;
+                }
+            } while (!childMoves.compareAndSet(claimed, claimed | bit));
+
+            Node child = new Node(this, move, seat);
+            child.availability.set(1);
+            child.visits.set(virtualLoss);
+            Node[] current;
+            Node[] updated;
+            do {
+                current = children.get();
+                updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = child;
+            } while (!children.compareAndSet(current, updated));
+            return child;
+        }
+
+        /**
+         * Counts one more chance to pick each child that is legal in the current guess.
+         */
+        void countAvailability(long legal) {
+            for (Node child : children.get()) {
+                if ((legal & (1L << child.move)) != 0) {
+                    child.availability.incrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Picks the legal child with the best upper confidence bound.
+         *
+         * @return The child, or null if no legal child has been published yet
+         */
+        Node select(long legal) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child : children.get()) {
+                if ((legal & (1L << child.move)) == 0) continue;
+                int visits = Math.max(1, child.visits.get());
+                double score = (double) child.wins.get() / visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability.get()) / visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Adds the visit count of every child to the entry of its move.
+         */
+        void addVisitsTo(int[] visitsByMove) {
+            for (Node child : children.get()) {
+                visitsByMove[child.move] += child.visits.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.cardgame.model.ai;
+
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+
+import java.util.List;
+
+/**
+ * The default computer player. Plays the winning card if it has one,
+ * otherwise blocks opponents who are close to winning, otherwise plays
+ * the first matching card.
+ */
+public class PriorityStrategy implements ComputerStrategy {
+
+    @Override
+    public int chooseCard(GameEngine engine) {
+        Player computer = engine.getCurrentPlayer();
+        int topCard = engine.getTopCard();
+
+        // Nothing to choose from, draw a card
+        if (!computer.hasPlayableCard(topCard)) {
+            return -1;
+        }
+
+        // First priority: Win the game if possible
+        if (computer.handSize() == 1 && CardCode.matches(computer.cardAt(0), topCard)) {
+            return 0;
+        }
+
+        // Second priority: Block players who are close to winning
+        boolean threatExists = false;
+        List<Player> players = engine.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (p != computer && p.handSize() <= 2) {
+                threatExists = true;
+                break;
+            }
+        }
+        if (threatExists) {
+            int index = firstMatch(computer, topCard);
+            if (index != -1) {
+                return index;
+            }
+        }
+
+        // Third priority: Play any matching card
+        return firstMatch(computer, topCard);
+    }
+
+    private int firstMatch(Player player, int topCard) {
+        for (int i = 0; i < player.handSize(); i++) {
+            if (CardCode.matches(player.cardAt(i), topCard)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cardgame.model.ai;
+
+import java.util.function.Supplier;
+
+/**
+ * The computer strategies that can be picked for the "Computer" seat.
+ */
+public enum StrategyType {
+    SIMPLE("Simple", PriorityStrategy::new),
+    MCTS("MCTS", () -> new MctsStrategy(StrategyType.MCTS_BUDGET_MILLIS,
+            MctsStrategy.Parallelism.ROOT, Runtime.getRuntime().availableProcessors()));
+
+    /** Thinking time per move of the search-based computer player. */
+    public static final long MCTS_BUDGET_MILLIS = 250;
+
+    private final String displayName;
+    private final Supplier<ComputerStrategy> factory;
+
+    StrategyType(String displayName, Supplier<ComputerStrategy> factory) {
+        this.displayName = displayName;
+        this.factory = factory;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public ComputerStrategy create() {
+        return factory.get();
+    }
+
+    /**
+     * Gets the strategy after this one, wrapping around, for cycling through them.
+     */
+    public StrategyType next() {
+        StrategyType[] types = values();
+        return types[(ordinal() + 1) % types.length];
+    }
+}
@@ -0,0 +1,101 @@
+package com.cardgame.model.card;
+
+/**
+ * An immutable view of a card code, see {@link CardCode}. Instances can't
+ * change, so the shared face-up views are safe to hand to every caller.
+ */
+public class Card {
+    // How each color is shown on screen is up to the UI, see CardPalette in card-game-swing
+    public enum CardColor {
+        RED,
+        BLUE,
+        GREEN,
+        GOLD
+    }
+
+    // Shared face-up views, one per card code
+    private static final Card[] FACE_UP_VIEWS = new Card[CardCode.COUNT];
+
+    static {
+        for (CardColor color : CardColor.values()) {
+            for (int value = -1; value <= 9; value++) {
+                Card card = new Card(color, value, true);
+                FACE_UP_VIEWS[card.getCode()] = card;
+            }
+        }
+    }
+
+    private final CardColor color;
+    private final int value;
+    private final int code;
+    private final boolean faceUp;
+
+    // Method overloading for constructors
+    public Card(CardColor color, int value) {
+        this(color, value, false);
+    }
+
+    public Card(CardColor color, int value, boolean faceUp) {
+        this.color = color;
+        this.value = value;
+        this.faceUp = faceUp;
+        this.code = CardCode.of(color, value);
+    }
+
+    /**
+     * Creates a view of an encoded card.
+     *
+     * @param code The card code, see {@link CardCode}
+     * @param faceUp Whether the card is shown face up
+     * @return The card, or null for {@link CardCode#NONE}
+     */
+    public static Card fromCode(int code, boolean faceUp) {
+        if (code < 0) return null;
+        return new Card(CardCode.color(code), CardCode.value(code), faceUp);
+    }
+
+    /**
+     * Gets the shared face-up view of an encoded card without allocating.
+     *
+     * @param code The card code, see {@link CardCode}
+     * @return The card, or null for {@link CardCode#NONE}
+     */
+    public static Card faceUpView(int code) {
+        if (code < 0) return null;
+        return FACE_UP_VIEWS[code];
+    }
+
+    // Method overloading for card matching
+    public boolean matches(Card other) {
+        if (other == null) return false;
+        return CardCode.matches(code, other.code);
+    }
+
+    public boolean matches(CardColor color) {
+        return this.color == color;
+    }
+
+    public boolean matches(int value) {
+        return this.value == value;
+    }
+
+    public CardColor getColor() {
+        return color;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public boolean isFaceUp() {
+        return faceUp;
+    }
+
+    public boolean isSpecial() {
+        return value < 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.cardgame.model.card;
+
+/**
+ * Compact primitive encoding of a card, used by the deck, the hands and
+ * the computer players instead of {@link Card} objects.
+ *
+ * A card code fits in a byte: bits 4-5 hold the color ordinal and bits 0-3
+ * hold the value (0-9), or {@link #SPECIAL_VALUE} for special cards.
+ * {@link Card} remains the view wrapper used for rendering.
+ */
+public final class CardCode {
+    /** Marks the absence of a card, e.g. an empty deck. */
+    public static final int NONE = -1;
+
+    /** Number of distinct codes; every valid code is in [0, COUNT). */
+    public static final int COUNT = 64;
+
+    /** Value bits used for special cards. */
+    public static final int SPECIAL_VALUE = 10;
+
+    private static final int COLOR_SHIFT = 4;
+    private static final int VALUE_MASK = 0x0F;
+
+    private static final Card.CardColor[] COLORS = Card.CardColor.values();
+
+    // MATCHES[a] has bit b set if card b can be played on card a
+    private static final long[] MATCHES = new long[COUNT];
+
+    static {
+        for (int a = 0; a < COUNT; a++) {
+            for (int b = 0; b < COUNT; b++) {
+                if (computeMatch(a, b)) {
+                    MATCHES[a] |= 1L << b;
+                }
+            }
+        }
+    }
+
+    private CardCode() {
+    }
+
+    /**
+     * Encodes a card.
+     *
+     * @param color The card color
+     * @param value The card value, or a negative number for special cards
+     * @return The card code
+     */
+    public static int of(Card.CardColor color, int value) {
+        int valueBits = value < 0 ? SPECIAL_VALUE : value;
+        return (color.ordinal() << COLOR_SHIFT) | valueBits;
+    }
+
+    /**
+     * Encodes a card from its color ordinal and value bits.
+     */
+    public static int fromIndices(int colorIndex, int valueIndex) {
+        return (colorIndex << COLOR_SHIFT) | valueIndex;
+    }
+
+    public static int colorIndex(int code) {
+        return code >>> COLOR_SHIFT;
+    }
+
+    public static Card.CardColor color(int code) {
+        return COLORS[code >>> COLOR_SHIFT];
+    }
+
+    /**
+     * Gets the value bits of a card, {@link #SPECIAL_VALUE} for special cards.
+     */
+    public static int valueIndex(int code) {
+        return code & VALUE_MASK;
+    }
+
+    /**
+     * Gets the value of a card as {@link Card#getValue()} reports it,
+     * i.e. -1 for special cards.
+     */
+    public static int value(int code) {
+        int valueBits = code & VALUE_MASK;
+        return valueBits == SPECIAL_VALUE ? -1 : valueBits;
+    }
+
+    public static boolean isSpecial(int code) {
+        return (code & VALUE_MASK) == SPECIAL_VALUE;
+    }
+
+    public static boolean isWild(int code) {
+        return (code >>> COLOR_SHIFT) == Card.CardColor.GOLD.ordinal();
+    }
+
+    /**
+     * Table lookup equivalent of {@link Card#matches(Card)}.
+     *
+     * @param card The card to play
+     * @param topCard The card on top of the discard pile
+     * @return true if the card can be played
+     */
+    public static boolean matches(int card, int topCard) {
+        if (card < 0 || topCard < 0) return false;
+        return (MATCHES[topCard] >>> card & 1L) != 0;
+    }
+
+    /**
+     * Gets the set of codes that can be played on a card, one bit per code.
+     */
+    public static long matchMask(int topCard) {
+        return topCard < 0 ? 0L : MATCHES[topCard];
+    }
+
+    private static boolean computeMatch(int a, int b) {
+        // Wild cards match with anything
+        if (isWild(a) || isWild(b)) return true;
+        return colorIndex(a) == colorIndex(b) || valueIndex(a) == valueIndex(b);
+    }
+
+    public static String toString(int code) {
+        if (code < 0) return "NONE";
+        return color(code) + (isSpecial(code) ? " special" : " " + value(code));
+    }
+}
@@ -0,0 +1,228 @@
+package com.cardgame.model.card;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The draw pile and discard pile, holding cards as {@link CardCode}s.
+ * Both piles are fixed-capacity byte arrays used as stacks, so drawing,
+ * discarding and recycling never allocate.
+ */
+public class Deck {
+    /** Number of cards in a full deck. */
+    public static final int SIZE = 67;
+
+    // Every card of a full deck, in the order they are created
+    private static final byte[] FULL_DECK = initializeDeck();
+
+    private byte[] cards;
+    private int cardCount;        // top of the draw pile
+    private byte[] discardPile;
+    private int discardCount;     // top of the discard pile
+    private final RandomGenerator random;
+
+    public Deck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a deck shuffled from a seed; the same seed always gives the same order.
+     *
+     * @param seed The shuffle seed
+     */
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a deck that draws all of its randomness from the given generator.
+     * Parallel simulations should give every deck its own stream, e.g. one
+     * split off a {@link SplittableRandom}, so no generator is shared between threads.
+     *
+     * @param random The random generator used for shuffling
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        cards = new byte[SIZE];
+        discardPile = new byte[SIZE];
+        System.arraycopy(FULL_DECK, 0, cards, 0, SIZE);
+        cardCount = SIZE;
+        shuffle();
+    }
+
+    /**
+     * Creates a copy of a deck, with both piles in the same order.
+     *
+     * @param source The deck to copy
+     * @param random The random generator the copy uses for future reshuffles
+     */
+    public Deck(Deck source, RandomGenerator random) {
+        this.random = random;
+        cards = source.cards.clone();
+        cardCount = source.cardCount;
+        discardPile = source.discardPile.clone();
+        discardCount = source.discardCount;
+    }
+
+    private static byte[] initializeDeck() {
+        byte[] deck = new byte[SIZE];
+        int count = 0;
+
+        // Add number cards (0-9) for each color
+        for (Card.CardColor color : Card.CardColor.values()) {
+            if (color != Card.CardColor.GOLD) {  // Skip GOLD for number cards
+                for (int number = 0; number <= 9; number++) {
+                    deck[count++] = (byte) CardCode.of(color, number);
+                    if (number != 0) {  // Add duplicates of non-zero numbers
+                        deck[count++] = (byte) CardCode.of(color, number);
+                    }
+                }
+            }
+        }
+
+        // Add special cards
+        // RED - Skip turn
+        for (int i = 0; i < 2; i++) {
+            deck[count++] = (byte) CardCode.of(Card.CardColor.RED, -1);
+        }
+        // BLUE - Draw two
+        for (int i = 0; i < 2; i++) {
+            deck[count++] = (byte) CardCode.of(Card.CardColor.BLUE, -1);
+        }
+        // GREEN - Reverse
+        for (int i = 0; i < 2; i++) {
+            deck[count++] = (byte) CardCode.of(Card.CardColor.GREEN, -1);
+        }
+        // GOLD - Wild
+        for (int i = 0; i < 4; i++) {
+            deck[count++] = (byte) CardCode.of(Card.CardColor.GOLD, -1);
+        }
+        return deck;
+    }
+
+    /**
+     * Counts how many copies of each card a full deck holds.
+     *
+     * @param counts Receives the count of every card code; must hold {@link CardCode#COUNT} entries
+     */
+    public static void countFullDeck(int[] counts) {
+        Arrays.fill(counts, 0);
+        for (byte card : FULL_DECK) {
+            counts[card]++;
+        }
+    }
+
+    public void shuffle() {
+        for (int i = cardCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+
+    /**
+     * Draws the top card.
+     *
+     * @return The card code, or {@link CardCode#NONE} if no cards are left even after recycling
+     */
+    public int draw() {
+        if (cardCount == 0) {
+            recycleDiscardPile();
+            if (cardCount == 0) {
+                return CardCode.NONE;  // No cards left even after recycling
+            }
+        }
+        return cards[--cardCount];
+    }
+
+    /**
+     * Draws up to count cards into a caller-supplied buffer.
+     *
+     * @param count The number of cards to draw
+     * @param buffer Receives the drawn card codes, starting at index 0
+     * @return The number of cards drawn; less than count if the deck ran out
+     */
+    public int draw(int count, byte[] buffer) {
+        int drawn = 0;
+        while (drawn < count) {
+            if (cardCount == 0) {
+                recycleDiscardPile();
+                if (cardCount == 0) {
+                    break;  // No more cards to draw
+                }
+            }
+            // Copy as many cards as the draw pile holds in one go
+            int batch = Math.min(count - drawn, cardCount);
+            for (int i = 0; i < batch; i++) {
+                buffer[drawn++] = cards[--cardCount];
+            }
+        }
+        return drawn;
+    }
+
+    public void discard(int card) {
+        if (card != CardCode.NONE) {
+            discardPile[discardCount++] = (byte) card;
+        }
+    }
+
+    private void recycleDiscardPile() {
+        if (discardCount == 0) {
+            return;
+        }
+
+        // Keep the top card in the discard pile
+        byte topCard = discardPile[--discardCount];
+
+        // The draw pile is empty, so the discard pile's buffer simply becomes
+        // the draw pile and the empty draw buffer becomes the discard pile
+        byte[] emptied = cards;
+        cards = discardPile;
+        cardCount = discardCount;
+        discardPile = emptied;
+        discardCount = 0;
+
+        // Shuffle the recycled cards
+        shuffle();
+
+        // Put the top card back in the discard pile
+        discardPile[discardCount++] = topCard;
+    }
+
+    /**
+     * Copies the discard pile, bottom card first.
+     *
+     * @param buffer Receives the card codes; must hold {@link #SIZE} entries
+     * @return The number of cards copied
+     */
+    public int copyDiscardPile(byte[] buffer) {
+        System.arraycopy(discardPile, 0, buffer, 0, discardCount);
+        return discardCount;
+    }
+
+    /**
+     * Replaces the contents of the draw pile, e.g. with a guess at the
+     * hidden cards when searching. The last card given is drawn first.
+     *
+     * @param source The card codes
+     * @param offset The index of the first card in source
+     * @param count The number of cards
+     */
+    public void setDrawPile(byte[] source, int offset, int count) {
+        if (count + discardCount > SIZE) {
+            throw new IllegalArgumentException("A deck holds at most " + SIZE + " cards");
+        }
+        System.arraycopy(source, offset, cards, 0, count);
+        cardCount = count;
+    }
+
+    public int remainingCards() {
+        return cardCount;
+    }
+
+    public int discardSize() {
+        return discardCount;
+    }
+}
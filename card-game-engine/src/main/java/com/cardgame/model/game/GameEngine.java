@@ -0,0 +1,389 @@
+package com.cardgame.model.game;
+
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.card.Deck;
+import com.cardgame.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless rules engine for the card game.
+ * Owns the deck, the turn order and the special card effects, and advances
+ * one move at a time. It has no dependency on Swing, so whole games can be
+ * played without a window or a game loop.
+ */
+public class GameEngine {
+    public static final int INITIAL_HAND_SIZE = 7;
+
+    private final List<Player> players;
+    private final List<Player> playersView;
+    private final Deck deck;
+    private final byte[] drawBuffer = new byte[INITIAL_HAND_SIZE];
+    private int topCard = CardCode.NONE;
+    private int currentPlayerIndex;
+    private int direction = 1; // 1 for clockwise, -1 for counter-clockwise
+    private boolean gameOver;
+    private Player winner;
+    private Player loser;
+    private int turnCount;
+    private GameEventListener listener = GameEventListener.NONE;
+
+    /**
+     * Creates a new game with a random seed.
+     *
+     * @param players The players taking part, in seating order
+     */
+    public GameEngine(List<Player> players) {
+        this(ThreadLocalRandom.current().nextLong(), players);
+    }
+
+    /**
+     * Creates a new game. The same seed and players always produce the same deal.
+     *
+     * @param seed The seed used to shuffle the deck
+     * @param players The players taking part, in seating order
+     */
+    public GameEngine(long seed, List<Player> players) {
+        this(new SplittableRandom(seed), players);
+    }
+
+    /**
+     * Creates a new game that takes all of its randomness from the given
+     * generator, so callers can hand every game its own stream.
+     *
+     * @param random The random generator used to shuffle the deck
+     * @param players The players taking part, in seating order
+     */
+    public GameEngine(RandomGenerator random, List<Player> players) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("A game needs at least one player");
+        }
+        this.players = new ArrayList<>(players);
+        this.playersView = Collections.unmodifiableList(this.players);
+        this.deck = new Deck(random);
+        deal();
+    }
+
+    /**
+     * Copies another game. Players are copied too, so moves made on the
+     * copy never affect the original.
+     */
+    private GameEngine(GameEngine source, RandomGenerator random) {
+        this.players = new ArrayList<>(source.players.size());
+        for (Player player : source.players) {
+            this.players.add(new Player(player));
+        }
+        this.playersView = Collections.unmodifiableList(this.players);
+        this.deck = new Deck(source.deck, random);
+        this.topCard = source.topCard;
+        this.currentPlayerIndex = source.currentPlayerIndex;
+        this.direction = source.direction;
+        this.gameOver = source.gameOver;
+        this.winner = source.winner == null ? null : players.get(source.players.indexOf(source.winner));
+        this.loser = source.loser == null ? null : players.get(source.players.indexOf(source.loser));
+        this.turnCount = source.turnCount;
+    }
+
+    /**
+     * Sets the listener told about every move from now on. Copies of the
+     * game don't inherit it, so searches on copies are never reported.
+     *
+     * @param listener The listener, or null for none
+     */
+    public void setListener(GameEventListener listener) {
+        this.listener = listener == null ? GameEventListener.NONE : listener;
+    }
+
+    /**
+     * Creates a copy of this game.
+     *
+     * @param random The random generator the copy uses for reshuffling
+     * @return An independent copy
+     */
+    public GameEngine copy(RandomGenerator random) {
+        return new GameEngine(this, random);
+    }
+
+    /**
+     * Creates a copy of this game as one player might imagine it. The
+     * observer's hand, the top card and the discard pile are kept; all other
+     * hands and the draw pile are dealt again at random from the cards of a
+     * full deck the observer cannot see.
+     *
+     * @param observer The seat whose knowledge is kept
+     * @param random The random generator used for the guess and for reshuffling
+     * @return An independent copy with the hidden cards re-dealt
+     */
+    public GameEngine determinize(int observer, RandomGenerator random) {
+        GameEngine copy = new GameEngine(this, random);
+        copy.redealHiddenCards(observer, random);
+        return copy;
+    }
+
+    private void redealHiddenCards(int observer, RandomGenerator random) {
+        // Start from a full deck and remove every card the observer can see
+        int[] unseen = new int[CardCode.COUNT];
+        Deck.countFullDeck(unseen);
+        Player self = players.get(observer);
+        for (int i = 0; i < self.handSize(); i++) {
+            unseen[self.cardAt(i)]--;
+        }
+        if (topCard != CardCode.NONE) {
+            unseen[topCard]--;
+        }
+        byte[] pool = new byte[Deck.SIZE];
+        int discarded = deck.copyDiscardPile(pool);
+        for (int i = 0; i < discarded; i++) {
+            unseen[pool[i]]--;
+        }
+
+        int poolSize = 0;
+        for (int code = 0; code < CardCode.COUNT; code++) {
+            for (int n = 0; n < unseen[code]; n++) {
+                pool[poolSize++] = (byte) code;
+            }
+        }
+        for (int i = poolSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte temp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = temp;
+        }
+
+        // Hand sizes are public, so every opponent keeps as many cards as before
+        int offset = 0;
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (seat == observer) continue;
+            Player opponent = players.get(seat);
+            int size = opponent.handSize();
+            opponent.clearHand();
+            opponent.addCards(pool, offset, size);
+            offset += size;
+        }
+        deck.setDrawPile(pool, offset, poolSize - offset);
+    }
+
+    private void deal() {
+        // Deal 7 cards to each player
+        for (Player player : players) {
+            player.clearHand();
+            player.addCards(drawBuffer, deck.draw(INITIAL_HAND_SIZE, drawBuffer));
+        }
+
+        // Place first card face up, skipping special cards
+        topCard = deck.draw();
+        while (topCard != CardCode.NONE && CardCode.isSpecial(topCard)) {
+            deck.discard(topCard);
+            topCard = deck.draw();
+        }
+
+        currentPlayerIndex = 0;
+        direction = 1;
+        gameOver = false;
+        winner = null;
+        loser = null;
+        turnCount = 0;
+    }
+
+    /**
+     * Checks whether a card may be played on the current top card.
+     *
+     * @param card The card code to check
+     * @return true if the card matches the top card
+     */
+    public boolean canPlay(int card) {
+        return CardCode.matches(card, topCard);
+    }
+
+    /**
+     * Plays a card from the current player's hand and applies its effect.
+     *
+     * @param handIndex The index of the card in the current player's hand
+     * @return The played card code, or {@link CardCode#NONE} if the move is not legal
+     */
+    public int playCard(int handIndex) {
+        if (gameOver) return CardCode.NONE;
+
+        Player player = getCurrentPlayer();
+        if (handIndex < 0 || handIndex >= player.handSize()) return CardCode.NONE;
+        if (!canPlay(player.cardAt(handIndex))) return CardCode.NONE;
+
+        int played = player.playCard(handIndex);
+        listener.onCardPlayed(currentPlayerIndex, handIndex, played);
+
+        // Update top card
+        deck.discard(topCard);
+        topCard = played;
+        turnCount++;
+
+        if (CardCode.isSpecial(played)) {
+            applySpecialEffect(played);
+        }
+
+        // Check if the player who moved has won
+        if (player.handSize() == 0) {
+            finishGame(player);
+            return played;
+        }
+
+        nextPlayer();
+        return played;
+    }
+
+    private void applySpecialEffect(int played) {
+        switch (CardCode.color(played)) {
+            case RED:
+                // Skip card - play moves on to the next player
+                listener.onSkip(nextPlayerIndex());
+                break;
+            case BLUE:
+                // Reverse direction (matters in multiplayer)
+                direction *= -1;
+                listener.onDirectionChanged(direction);
+                break;
+            case GREEN:
+                // Draw 2 cards for the next player
+                int drawn = deck.draw(2, drawBuffer);
+                getNextPlayer().addCards(drawBuffer, drawn);
+                listener.onDrawTwo(nextPlayerIndex(), drawn);
+                break;
+            case GOLD:
+                // Wild card - no special effect
+                break;
+        }
+    }
+
+    /**
+     * Draws a card for the current player. If the drawn card cannot be
+     * played the turn passes to the next player, otherwise the current
+     * player keeps the turn and may play it.
+     *
+     * @return The drawn card code, or {@link CardCode#NONE} if both the deck and discard pile are empty
+     */
+    public int drawCard() {
+        if (gameOver) return CardCode.NONE;
+
+        Player player = getCurrentPlayer();
+        int drawn = deck.draw();
+        turnCount++;
+        listener.onCardDrawn(currentPlayerIndex, drawn);
+        if (drawn == CardCode.NONE) {
+            nextPlayer();
+            return CardCode.NONE;
+        }
+
+        player.addCard(drawn);
+        if (!canPlay(drawn)) {
+            nextPlayer();
+        }
+        return drawn;
+    }
+
+    /**
+     * Takes a computer player's draw: draws a card and, if it can be
+     * played, plays it straight away.
+     *
+     * @return The drawn card code, or {@link CardCode#NONE} if there was nothing to draw
+     */
+    public int drawAndPlay() {
+        Player player = getCurrentPlayer();
+        int drawn = drawCard();
+        if (drawn != CardCode.NONE && getCurrentPlayer() == player && !gameOver) {
+            playCard(player.handSize() - 1);
+        }
+        return drawn;
+    }
+
+    private void nextPlayer() {
+        currentPlayerIndex = nextPlayerIndex();
+    }
+
+    private int nextPlayerIndex() {
+        return (currentPlayerIndex + direction + players.size()) % players.size();
+    }
+
+    private void finishGame(Player champion) {
+        gameOver = true;
+        winner = champion;
+
+        // Find the player with the most cards as the loser
+        Player worstPlayer = null;
+        int maxCards = -1;
+        for (Player p : players) {
+            if (p != champion && p.handSize() > maxCards) {
+                maxCards = p.handSize();
+                worstPlayer = p;
+            }
+        }
+        loser = worstPlayer;
+        listener.onGameOver(players.indexOf(winner), loser == null ? -1 : players.indexOf(loser));
+    }
+
+    /**
+     * Gets the players in seating order.
+     *
+     * @return A read-only live view of the players
+     */
+    public List<Player> getPlayers() {
+        return playersView;
+    }
+
+    public Player getCurrentPlayer() {
+        return players.get(currentPlayerIndex);
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public Player getNextPlayer() {
+        return players.get(nextPlayerIndex());
+    }
+
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return The card code, or {@link CardCode#NONE} if there is none
+     */
+    public int getTopCard() {
+        return topCard;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the seat of the winner.
+     *
+     * @return The winner's index in {@link #getPlayers()}, or -1 while the game is running
+     */
+    public int getWinnerIndex() {
+        return winner == null ? -1 : players.indexOf(winner);
+    }
+
+    public Player getLoser() {
+        return loser;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int remainingCards() {
+        return deck.remainingCards();
+    }
+}
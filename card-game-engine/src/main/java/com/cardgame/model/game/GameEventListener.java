@@ -0,0 +1,65 @@
+package com.cardgame.model.game;
+
+/**
+ * Receives everything that happens in a {@link GameEngine}, e.g. to record
+ * a game. Seats are indices into {@link GameEngine#getPlayers()}.
+ * Every method does nothing by default.
+ */
+public interface GameEventListener {
+    /** A listener that ignores every event. */
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    /**
+     * A player played a card.
+     *
+     * @param seat The player's seat
+     * @param handIndex The index the card had in the player's hand
+     * @param card The card code
+     */
+    default void onCardPlayed(int seat, int handIndex, int card) {
+    }
+
+    /**
+     * A player drew a card.
+     *
+     * @param seat The player's seat
+     * @param card The card code, or {@link com.cardgame.model.card.CardCode#NONE} if nothing was left to draw
+     */
+    default void onCardDrawn(int seat, int card) {
+    }
+
+    /**
+     * A reverse card changed the direction of play.
+     *
+     * @param direction 1 for clockwise, -1 for counter-clockwise
+     */
+    default void onDirectionChanged(int direction) {
+    }
+
+    /**
+     * A skip card was played.
+     *
+     * @param seat The seat of the player after the one who played it
+     */
+    default void onSkip(int seat) {
+    }
+
+    /**
+     * A draw-two card made a player draw.
+     *
+     * @param seat The seat of the player who drew
+     * @param count The number of cards actually drawn
+     */
+    default void onDrawTwo(int seat, int count) {
+    }
+
+    /**
+     * The game ended.
+     *
+     * @param winnerSeat The seat of the winner
+     * @param loserSeat The seat of the loser, or -1 if there is none
+     */
+    default void onGameOver(int winnerSeat, int loserSeat) {
+    }
+}
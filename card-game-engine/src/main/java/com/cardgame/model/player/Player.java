@@ -0,0 +1,216 @@
+package com.cardgame.model.player;
+
+import com.cardgame.model.card.Card;
+import com.cardgame.model.card.Card.CardColor;
+import com.cardgame.model.card.CardCode;
+import java.util.*;
+
+public class Player {
+    private static final int INITIAL_HAND_CAPACITY = 16;
+
+    private static final int WILD = CardColor.GOLD.ordinal();
+
+    private String name;
+    private byte[] hand;
+    private int handSize;
+    private boolean isComputer;
+
+    // Counters kept in step with the hand so queries don't need to scan it
+    private final int[] codeCounts = new int[CardCode.COUNT];
+    private final int[] colorCounts = new int[CardColor.values().length];
+    private final int[] valueCounts = new int[CardCode.SPECIAL_VALUE + 1];
+
+    private final List<Card> handView = new HandView();
+
+    public Player(String name, boolean isComputer) {
+        this.name = name;
+        this.hand = new byte[INITIAL_HAND_CAPACITY];
+        this.isComputer = isComputer;
+    }
+
+    /**
+     * Creates a copy of a player holding the same cards.
+     *
+     * @param other The player to copy
+     */
+    public Player(Player other) {
+        this(other.name, other.isComputer);
+        addCards(other.hand, 0, other.handSize);
+    }
+
+    public void addCard(int card) {
+        if (card != CardCode.NONE) {
+            if (handSize == hand.length) {
+                hand = Arrays.copyOf(hand, hand.length * 2);
+            }
+            hand[handSize++] = (byte) card;
+            count(card, 1);
+        }
+    }
+
+    /**
+     * Adds cards to the hand.
+     *
+     * @param cards The buffer holding the card codes
+     * @param count The number of cards to take from the start of the buffer
+     */
+    public void addCards(byte[] cards, int count) {
+        addCards(cards, 0, count);
+    }
+
+    /**
+     * Adds cards to the hand.
+     *
+     * @param cards The buffer holding the card codes
+     * @param offset The index of the first card in the buffer
+     * @param count The number of cards to take from the buffer
+     */
+    public void addCards(byte[] cards, int offset, int count) {
+        if (cards != null && count > 0) {
+            if (handSize + count > hand.length) {
+                hand = Arrays.copyOf(hand, Math.max(hand.length * 2, handSize + count));
+            }
+            System.arraycopy(cards, offset, hand, handSize, count);
+            handSize += count;
+            for (int i = offset; i < offset + count; i++) {
+                count(cards[i], 1);
+            }
+        }
+    }
+
+    public void clearHand() {
+        handSize = 0;
+        Arrays.fill(codeCounts, 0);
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(valueCounts, 0);
+    }
+
+    private void count(int card, int delta) {
+        codeCounts[card] += delta;
+        colorCounts[CardCode.colorIndex(card)] += delta;
+        valueCounts[CardCode.valueIndex(card)] += delta;
+    }
+
+    /**
+     * Removes a card from the hand.
+     *
+     * @param index The index of the card
+     * @return The card code, or {@link CardCode#NONE} if the index is invalid
+     */
+    public int playCard(int index) {
+        if (index >= 0 && index < handSize) {
+            int card = hand[index];
+            System.arraycopy(hand, index + 1, hand, index, handSize - index - 1);
+            handSize--;
+            count(card, -1);
+            return card;
+        }
+        return CardCode.NONE;
+    }
+
+    /**
+     * Gets a card from the hand without removing it.
+     *
+     * @param index The index of the card
+     * @return The card code
+     */
+    public int cardAt(int index) {
+        if (index < 0 || index >= handSize) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for hand size " + handSize);
+        }
+        return hand[index];
+    }
+
+    /**
+     * Gets a read-only live view of the hand. Reading it allocates nothing;
+     * the cards are the shared face-up views from {@link Card#faceUpView}.
+     *
+     * @return The hand, reflecting later changes
+     */
+    public List<Card> getHand() {
+        return handView;
+    }
+
+    public int handSize() {
+        return handSize;
+    }
+
+    public boolean isComputer() {
+        return isComputer;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether any card in the hand can be played, in constant time.
+     *
+     * @param topCard The card code on top of the discard pile
+     * @return true if at least one card matches
+     */
+    public boolean hasPlayableCard(int topCard) {
+        if (topCard == CardCode.NONE || handSize == 0) return false;
+        // Wild cards match with anything
+        if (colorCounts[WILD] > 0 || CardCode.isWild(topCard)) return true;
+        return colorCounts[CardCode.colorIndex(topCard)] > 0
+                || valueCounts[CardCode.valueIndex(topCard)] > 0;
+    }
+
+    /**
+     * Counts the cards in the hand that can be played, in constant time.
+     *
+     * @param topCard The card code on top of the discard pile
+     * @return The number of matching cards
+     */
+    public int countPlayableCards(int topCard) {
+        if (topCard == CardCode.NONE) return 0;
+        if (CardCode.isWild(topCard)) return handSize;
+        int color = CardCode.colorIndex(topCard);
+        int value = CardCode.valueIndex(topCard);
+        // Same color or same value, counting cards that are both only once, plus wild cards
+        int sameColorOrValue = colorCounts[color] + valueCounts[value] - codeCounts[topCard];
+        int wildsNotCounted = colorCounts[WILD] - codeCounts[CardCode.fromIndices(WILD, value)];
+        return sameColorOrValue + wildsNotCounted;
+    }
+
+    public int getColorCount(CardColor color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Gets the number of cards with a value.
+     *
+     * @param value The card value, or a negative number for special cards
+     * @return The number of cards in the hand with that value
+     */
+    public int getValueCount(int value) {
+        return valueCounts[value < 0 ? CardCode.SPECIAL_VALUE : value];
+    }
+
+    public int getCardCount(int card) {
+        return codeCounts[card];
+    }
+
+    private class HandView extends AbstractList<Card> implements RandomAccess {
+        @Override
+        public Card get(int index) {
+            return Card.faceUpView(cardAt(index));
+        }
+
+        @Override
+        public int size() {
+            return handSize;
+        }
+    }
+
+    public Map<CardColor, Integer> getColorCounts() {
+        Map<CardColor, Integer> counts = new EnumMap<>(CardColor.class);
+        for (CardColor color : CardColor.values()) {
+            if (colorCounts[color.ordinal()] > 0) {
+                counts.put(color, colorCounts[color.ordinal()]);
+            }
+        }
+        return counts;
+    }
+}
@@ -1,6 +1,7 @@
 package com.cardgame.model.player;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -9,6 +10,7 @@ import java.util.List;
  */
 public class PlayerManager {
     private List<Player> players;
+    private List<Player> playersView;
     private int currentPlayerIndex;
     
     /**
@@ -16,6 +18,7 @@ public class PlayerManager {
      */
     public PlayerManager() {
         players = new ArrayList<>();
+        playersView = Collections.unmodifiableList(players);
         currentPlayerIndex = 0;
     }
     
@@ -71,10 +74,10 @@ public class PlayerManager {
     /**
      * Gets all players.
      * 
-     * @return A list of all players
+     * @return A read-only live view of all players
      */
     public List<Player> getPlayers() {
-        return new ArrayList<>(players);
+        return playersView;
     }
     
     /**
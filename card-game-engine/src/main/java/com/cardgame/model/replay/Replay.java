@@ -0,0 +1,186 @@
+package com.cardgame.model.replay;
+
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.game.GameEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays a recorded game again. The game is rebuilt from the recorded seed
+ * and players, then {@link #step()} makes the next recorded move on it, so
+ * the caller decides how fast the replay runs.
+ *
+ * <p>Only the moves are needed to re-drive the game; every other recorded
+ * event is checked against what the engine does instead, so a log that no
+ * longer matches the rules fails loudly rather than showing a different
+ * game.
+ */
+public class Replay implements GameEventListener, Closeable {
+    /** More than a single move can ever produce. */
+    private static final int MAX_PENDING = 8;
+
+    private final ReplayReader reader;
+    private final GameEngine engine;
+    private int eventNumber;
+
+    // Events produced by the engine and not yet matched against the log,
+    // stored as (type, seat, first payload value) triples
+    private final int[] pending = new int[MAX_PENDING * 3];
+    private int pendingStart;
+    private int pendingCount;
+
+    /**
+     * Rebuilds the recorded game, ready for its first move.
+     *
+     * @param reader The log, positioned after its header
+     */
+    public Replay(ReplayReader reader) {
+        this.reader = reader;
+        this.engine = new GameEngine(reader.getSeed(), reader.createPlayers());
+        engine.setListener(this);
+    }
+
+    /**
+     * Opens a replay log file.
+     *
+     * @see #Replay(ReplayReader)
+     */
+    public static Replay open(Path file) throws IOException {
+        return new Replay(ReplayReader.open(file));
+    }
+
+    /**
+     * @return The game being replayed
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * @return The log, positioned at the move made by the last {@link #step()}
+     */
+    public ReplayReader getReader() {
+        return reader;
+    }
+
+    /**
+     * Makes the next recorded move.
+     *
+     * @return false if the log has no more moves
+     * @throws IOException If the log can't be read
+     * @throws IllegalStateException If the game no longer matches the log
+     */
+    public boolean step() throws IOException {
+        while (reader.next()) {
+            eventNumber++;
+            int type = reader.getType();
+            if (type == ReplayFormat.DEAL) {
+                check(engine.getTopCard() == reader.getCard(), "dealt card");
+                continue;
+            }
+
+            if (type == ReplayFormat.PLAY) {
+                check(engine.getCurrentPlayerIndex() == reader.getSeat(), "player");
+                check(engine.playCard(reader.getHandIndex()) != CardCode.NONE, "legal move");
+            } else if (type == ReplayFormat.DRAW) {
+                check(engine.getCurrentPlayerIndex() == reader.getSeat(), "player");
+                engine.drawCard();
+            }
+            matchPending(type);
+            if (reader.isPlay() || reader.isDraw()) return true;
+        }
+        check(pendingCount == 0, "end of log");
+        return false;
+    }
+
+    /**
+     * Makes every remaining move.
+     *
+     * @throws IOException If the log can't be read
+     * @throws IllegalStateException If the game no longer matches the log
+     */
+    public void playToEnd() throws IOException {
+        while (step()) {
+            // keep going
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int handIndex, int card) {
+        push(ReplayFormat.PLAY, seat, card);
+    }
+
+    @Override
+    public void onCardDrawn(int seat, int card) {
+        push(ReplayFormat.DRAW, seat, card);
+    }
+
+    @Override
+    public void onDirectionChanged(int direction) {
+        push(ReplayFormat.DIRECTION, 0, direction);
+    }
+
+    @Override
+    public void onSkip(int seat) {
+        push(ReplayFormat.SKIP, seat, 0);
+    }
+
+    @Override
+    public void onDrawTwo(int seat, int count) {
+        push(ReplayFormat.DRAW_TWO, seat, count);
+    }
+
+    @Override
+    public void onGameOver(int winnerSeat, int loserSeat) {
+        push(ReplayFormat.WINNER, winnerSeat, loserSeat);
+    }
+
+    private void push(int type, int seat, int value) {
+        int slot = (pendingStart + pendingCount) % MAX_PENDING * 3;
+        pending[slot] = type;
+        pending[slot + 1] = seat;
+        pending[slot + 2] = value;
+        pendingCount++;
+    }
+
+    private void matchPending(int type) {
+        check(pendingCount > 0, "event");
+        int slot = pendingStart * 3;
+        pendingStart = (pendingStart + 1) % MAX_PENDING;
+        pendingCount--;
+
+        check(pending[slot] == type && pending[slot + 1] == reader.getSeat(), "event");
+        int value = pending[slot + 2];
+        switch (type) {
+            case ReplayFormat.PLAY:
+            case ReplayFormat.DRAW:
+                check(value == reader.getCard(), "card");
+                break;
+            case ReplayFormat.DIRECTION:
+                check(value == reader.getDirection(), "direction");
+                break;
+            case ReplayFormat.DRAW_TWO:
+                check(value == reader.getCount(), "cards drawn");
+                break;
+            case ReplayFormat.WINNER:
+                check(value == reader.getLoserSeat(), "loser");
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void check(boolean matches, String what) {
+        if (!matches) {
+            throw new IllegalStateException("Replay diverged at event " + eventNumber + ": unexpected " + what);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cardgame.model.replay;
+
+/**
+ * Layout of a replay log.
+ *
+ * <p>A log starts with a header: the magic number, a format version byte,
+ * the 8-byte seed and the seats (count, then per seat a flags varint and
+ * the UTF-8 name prefixed with its length). After the header come the
+ * events. Each event opens with one varint holding {@code seat << 3 | type},
+ * followed by the varint payload listed for its type. Card codes that may
+ * be {@code NONE} are stored plus one so they stay unsigned, and the
+ * direction is zigzag encoded. A typical move takes three bytes.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x43475250; // "CGRP"
+    static final int VERSION = 1;
+
+    static final int FLAG_COMPUTER = 1;
+
+    // Header limits, so a corrupt log can't make the reader allocate whatever it claims
+    /** The most players a game can have. */
+    static final int MAX_SEATS = 6;
+    /** Longest player name in UTF-8 bytes. */
+    static final int MAX_NAME_BYTES = 64;
+
+    static final int TYPE_BITS = 3;
+    static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+
+    /** Payload: top card + 1. */
+    static final int DEAL = 0;
+    /** Payload: hand index, card. */
+    static final int PLAY = 1;
+    /** Payload: card + 1. */
+    static final int DRAW = 2;
+    /** Payload: zigzag direction. */
+    static final int DIRECTION = 3;
+    /** No payload. */
+    static final int SKIP = 4;
+    /** Payload: number of cards drawn. */
+    static final int DRAW_TWO = 5;
+    /** Payload: loser seat + 1. */
+    static final int WINNER = 6;
+
+    /** Number of payload varints for each event type. */
+    static final int[] PAYLOAD_LENGTH = {1, 2, 1, 1, 0, 1, 1};
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private ReplayFormat() {
+    }
+}
@@ -0,0 +1,246 @@
+package com.cardgame.model.replay;
+
+import com.cardgame.model.player.Player;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a replay log written by {@link ReplayWriter}. The header is read
+ * up front; events are then read one at a time with {@link #next()} and
+ * inspected through the getters, which describe the current event.
+ */
+public class ReplayReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final long seed;
+    private final String[] names;
+    private final boolean[] computers;
+
+    private int type = -1;
+    private int seat;
+    private final int[] payload = new int[2];
+
+    /**
+     * Reads the header of a replay log.
+     *
+     * @param channel The channel holding the log
+     * @throws IOException If the channel can't be read or holds no valid replay log
+     */
+    public ReplayReader(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.flip();
+
+        if (readInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay log");
+        }
+        int version = readByte();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay log version " + version);
+        }
+        seed = readLong();
+        int seats = readVarint();
+        if (seats < 1 || seats > ReplayFormat.MAX_SEATS) {
+            throw new IOException("Corrupt replay log");
+        }
+        names = new String[seats];
+        computers = new boolean[seats];
+        for (int i = 0; i < seats; i++) {
+            computers[i] = (readVarint() & ReplayFormat.FLAG_COMPUTER) != 0;
+            int nameLength = readVarint();
+            if (nameLength < 0 || nameLength > ReplayFormat.MAX_NAME_BYTES) {
+                throw new IOException("Corrupt replay log");
+            }
+            byte[] name = new byte[nameLength];
+            for (int j = 0; j < name.length; j++) {
+                name[j] = (byte) readByte();
+            }
+            names[i] = new String(name, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Opens a replay log file and reads its header.
+     *
+     * @see #ReplayReader(ReadableByteChannel)
+     */
+    public static ReplayReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file);
+        try {
+            return new ReplayReader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The seed the recorded game was created with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates players with the same names and roles as the recorded ones.
+     *
+     * @return New players in seat order, with empty hands
+     */
+    public List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            players.add(new Player(names[i], computers[i]));
+        }
+        return players;
+    }
+
+    /**
+     * Moves to the next event.
+     *
+     * @return false if the log has no more events
+     * @throws IOException If reading fails or the log ends in the middle of an event
+     */
+    public boolean next() throws IOException {
+        if (!fill(1)) {
+            type = -1;
+            return false;
+        }
+        int header = readVarint();
+        type = header & ReplayFormat.TYPE_MASK;
+        seat = header >>> ReplayFormat.TYPE_BITS;
+        if (type >= ReplayFormat.PAYLOAD_LENGTH.length) {
+            throw new IOException("Unknown replay event type " + type);
+        }
+        for (int i = 0; i < ReplayFormat.PAYLOAD_LENGTH[type]; i++) {
+            payload[i] = readVarint();
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the current event is a card being played
+     */
+    public boolean isPlay() {
+        return type == ReplayFormat.PLAY;
+    }
+
+    /**
+     * @return true if the current event is a card being drawn
+     */
+    public boolean isDraw() {
+        return type == ReplayFormat.DRAW;
+    }
+
+    /**
+     * @return The type of the current event, one of the {@link ReplayFormat} constants
+     */
+    int getType() {
+        return type;
+    }
+
+    /**
+     * @return The seat the current event is about
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * @return The hand index of the card played
+     */
+    public int getHandIndex() {
+        return payload[0];
+    }
+
+    /**
+     * @return The card played, drawn or dealt face up, or {@link com.cardgame.model.card.CardCode#NONE}
+     */
+    public int getCard() {
+        return type == ReplayFormat.PLAY ? payload[1] : payload[0] - 1;
+    }
+
+    /**
+     * @return The direction of play after a direction change
+     */
+    public int getDirection() {
+        return ReplayFormat.unzigzag(payload[0]);
+    }
+
+    /**
+     * @return The number of cards drawn by a draw-two
+     */
+    public int getCount() {
+        return payload[0];
+    }
+
+    /**
+     * @return The loser's seat when the game is won, or -1
+     */
+    public int getLoserSeat() {
+        return payload[0] - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint in replay log");
+    }
+
+    private int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    private long readLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    private int readByte() throws IOException {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    private void require(int bytes) throws IOException {
+        if (!fill(bytes)) {
+            throw new EOFException("Replay log ends unexpectedly");
+        }
+    }
+
+    /**
+     * Makes sure the buffer holds at least the given number of bytes.
+     *
+     * @return false if the channel ran out first
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) return true;
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) return false;
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+}
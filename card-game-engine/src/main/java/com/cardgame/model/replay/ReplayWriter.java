@@ -0,0 +1,217 @@
+package com.cardgame.model.replay;
+
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.game.GameEventListener;
+import com.cardgame.model.player.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Records a game as a replay log (see {@link ReplayFormat}). The writer
+ * listens to the engine, so every move made on it from then on is
+ * recorded. Events are collected in a buffer and only written to the
+ * channel when it fills up or the writer is flushed or closed.
+ *
+ * <p>A recording must never break the game it records, so when writing
+ * fails during the game the rest of it is simply not recorded. The error
+ * is kept for the caller, see {@link #getError()}.
+ */
+public class ReplayWriter implements GameEventListener, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    /** Longest possible varint. */
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private IOException error;
+
+    /**
+     * Starts recording a game. The engine must be fresh from the deal and
+     * created from the given seed.
+     *
+     * @param channel The channel to write the log to
+     * @param seed The seed the engine was created with
+     * @param engine The game to record
+     * @throws IOException If the header can't be written, or the game has
+     *         more players or longer names than a log can hold
+     */
+    public ReplayWriter(WritableByteChannel channel, long seed, GameEngine engine) throws IOException {
+        this.channel = channel;
+
+        List<Player> players = engine.getPlayers();
+        if (players.size() > ReplayFormat.MAX_SEATS) {
+            throw new IOException("A replay log holds at most " + ReplayFormat.MAX_SEATS + " players");
+        }
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put((byte) ReplayFormat.VERSION);
+        buffer.putLong(seed);
+        putVarint(players.size());
+        for (Player player : players) {
+            putVarint(player.isComputer() ? ReplayFormat.FLAG_COMPUTER : 0);
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            if (name.length > ReplayFormat.MAX_NAME_BYTES) {
+                throw new IOException("Player name too long for a replay log: " + player.getName());
+            }
+            putVarint(name.length);
+            putBytes(name);
+        }
+        putEvent(ReplayFormat.DEAL, 0);
+        putVarint(engine.getTopCard() + 1);
+        flush();
+
+        engine.setListener(this);
+    }
+
+    /**
+     * Starts recording a game to a file, replacing any file already there.
+     *
+     * @see #ReplayWriter(WritableByteChannel, long, GameEngine)
+     */
+    public static ReplayWriter create(Path file, long seed, GameEngine engine) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new ReplayWriter(channel, seed, engine);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int handIndex, int card) {
+        putEvent(ReplayFormat.PLAY, seat);
+        putVarint(handIndex);
+        putVarint(card);
+    }
+
+    @Override
+    public void onCardDrawn(int seat, int card) {
+        putEvent(ReplayFormat.DRAW, seat);
+        putVarint(card + 1);
+    }
+
+    @Override
+    public void onDirectionChanged(int direction) {
+        putEvent(ReplayFormat.DIRECTION, 0);
+        putVarint(ReplayFormat.zigzag(direction));
+    }
+
+    @Override
+    public void onSkip(int seat) {
+        putEvent(ReplayFormat.SKIP, seat);
+    }
+
+    @Override
+    public void onDrawTwo(int seat, int count) {
+        putEvent(ReplayFormat.DRAW_TWO, seat);
+        putVarint(count);
+    }
+
+    @Override
+    public void onGameOver(int winnerSeat, int loserSeat) {
+        putEvent(ReplayFormat.WINNER, winnerSeat);
+        putVarint(loserSeat + 1);
+        flushQuietly();
+    }
+
+    /**
+     * Writes all buffered events to the channel.
+     *
+     * @throws IOException If writing fails
+     */
+    public void flush() throws IOException {
+        if (error != null) return;
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            error = e;
+            throw e;
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Checks whether writing has failed, after which nothing more is recorded.
+     */
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    /**
+     * Gets the error that stopped the recording.
+     *
+     * @return The error, or null if every write so far succeeded
+     */
+    public IOException getError() {
+        return error;
+    }
+
+    /**
+     * Flushes the remaining events and closes the channel.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putEvent(int type, int seat) {
+        putVarint(seat << ReplayFormat.TYPE_BITS | type);
+    }
+
+    private void putVarint(int value) {
+        if (buffer.remaining() < MAX_VARINT_BYTES) {
+            flushQuietly();
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void putBytes(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flushQuietly();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void flushQuietly() {
+        if (error != null) {
+            buffer.clear();
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException e) {
+            // Kept in error for the caller
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.cardgame.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DeckTest {
+
+    @Test
+    void emptyDrawPileIsRefilledFromTheDiscardPile() {
+        Deck deck = new Deck(42L);
+        byte[] cards = new byte[Deck.SIZE];
+        assertEquals(Deck.SIZE, deck.draw(Deck.SIZE, cards));
+        for (byte card : cards) {
+            deck.discard(card);
+        }
+
+        int drawn = deck.draw();
+
+        // Everything but the top of the discard pile was shuffled back in
+        assertNotEquals(CardCode.NONE, drawn);
+        assertEquals(Deck.SIZE - 2, deck.remainingCards());
+        assertEquals(1, deck.discardSize());
+    }
+
+    @Test
+    void recyclingKeepsEveryCard() {
+        Deck deck = new Deck(7L);
+        byte[] cards = new byte[Deck.SIZE];
+        int drawn = deck.draw(Deck.SIZE, cards);
+        for (int i = 0; i < drawn; i++) {
+            deck.discard(cards[i]);
+        }
+
+        // The top discard stays put, the rest can be drawn again
+        int[] counts = new int[CardCode.COUNT];
+        counts[cards[drawn - 1]]++;
+        int card;
+        while ((card = deck.draw()) != CardCode.NONE) {
+            counts[card]++;
+        }
+
+        int[] expected = new int[CardCode.COUNT];
+        Deck.countFullDeck(expected);
+        for (int code = 0; code < CardCode.COUNT; code++) {
+            assertEquals(expected[code], counts[code], CardCode.toString(code));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.cardgame.model.game;
+
+import com.cardgame.model.ai.PriorityStrategy;
+import com.cardgame.model.card.Card.CardColor;
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.card.Deck;
+import com.cardgame.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEngineTest {
+    private static final int SEATS = 4;
+
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    void skipMovesPlayOnOneSeat() {
+        GameEngine engine = gameWithTop(CardColor.RED);
+        giveHand(engine, 0, CardCode.of(CardColor.RED, -1), CardCode.of(CardColor.RED, 1));
+
+        engine.playCard(0);
+
+        // As the game has always played it: the skip is reported, play moves on as usual
+        assertEquals(1, engine.getCurrentPlayerIndex());
+        assertEquals(List.of("play 0", "skip 1"), events);
+    }
+
+    @Test
+    void reverseTurnsPlayAround() {
+        GameEngine engine = gameWithTop(CardColor.BLUE);
+        giveHand(engine, 0, CardCode.of(CardColor.BLUE, -1), CardCode.of(CardColor.BLUE, 1));
+
+        engine.playCard(0);
+
+        assertEquals(-1, engine.getDirection());
+        assertEquals(SEATS - 1, engine.getCurrentPlayerIndex());
+        assertEquals(List.of("play 0", "direction -1"), events);
+    }
+
+    @Test
+    void drawTwoGivesTheNextPlayerTwoCards() {
+        GameEngine engine = gameWithTop(CardColor.GREEN);
+        giveHand(engine, 0, CardCode.of(CardColor.GREEN, -1), CardCode.of(CardColor.GREEN, 1));
+        int handSize = engine.getPlayers().get(1).handSize();
+
+        engine.playCard(0);
+
+        assertEquals(handSize + 2, engine.getPlayers().get(1).handSize());
+        assertEquals(1, engine.getCurrentPlayerIndex());
+        assertEquals(List.of("play 0", "draw two 1 2"), events);
+    }
+
+    @Test
+    void determinizeKeepsWhatTheObserverCanSee() {
+        GameEngine engine = gameWithTop(CardColor.RED);
+        PriorityStrategy strategy = new PriorityStrategy();
+        for (int turn = 0; turn < 10 && !engine.isGameOver(); turn++) {
+            int playIndex = strategy.chooseCard(engine);
+            if (playIndex != -1) {
+                engine.playCard(playIndex);
+            } else {
+                engine.drawAndPlay();
+            }
+        }
+        int observer = engine.getCurrentPlayerIndex();
+        byte[] before = hand(engine.getPlayers().get(observer));
+
+        for (long seed = 0; seed < 20; seed++) {
+            GameEngine copy = engine.determinize(observer, new SplittableRandom(seed));
+
+            assertArrayEquals(before, hand(copy.getPlayers().get(observer)));
+            assertEquals(engine.getTopCard(), copy.getTopCard());
+            assertEquals(engine.getCurrentPlayerIndex(), copy.getCurrentPlayerIndex());
+            assertEquals(engine.remainingCards(), copy.remainingCards());
+            int[] unseen = new int[CardCode.COUNT];
+            Deck.countFullDeck(unseen);
+            for (int seat = 0; seat < SEATS; seat++) {
+                Player player = copy.getPlayers().get(seat);
+                assertEquals(engine.getPlayers().get(seat).handSize(), player.handSize());
+                for (int i = 0; i < player.handSize(); i++) {
+                    unseen[player.cardAt(i)]--;
+                }
+            }
+            // The guess never invents cards a full deck doesn't hold
+            for (int count : unseen) {
+                assertTrue(count >= 0);
+            }
+        }
+        assertArrayEquals(before, hand(engine.getPlayers().get(observer)));
+    }
+
+    private static byte[] hand(Player player) {
+        byte[] cards = new byte[player.handSize()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) player.cardAt(i);
+        }
+        return cards;
+    }
+
+    /**
+     * Finds a deal whose face-up card has the given color, so a special
+     * card of that color can be played on it.
+     */
+    private GameEngine gameWithTop(CardColor color) {
+        for (long seed = 0; ; seed++) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < SEATS; i++) {
+                players.add(new Player("Player " + (i + 1), true));
+            }
+            GameEngine engine = new GameEngine(seed, players);
+            if (CardCode.color(engine.getTopCard()) == color) {
+                engine.setListener(new Recorder());
+                return engine;
+            }
+        }
+    }
+
+    private static void giveHand(GameEngine engine, int seat, int... cards) {
+        Player player = engine.getPlayers().get(seat);
+        player.clearHand();
+        for (int card : cards) {
+            player.addCard(card);
+        }
+    }
+
+    private class Recorder implements GameEventListener {
+        @Override
+        public void onCardPlayed(int seat, int handIndex, int card) {
+            events.add("play " + seat);
+        }
+
+        @Override
+        public void onCardDrawn(int seat, int card) {
+            events.add("draw " + seat);
+        }
+
+        @Override
+        public void onDirectionChanged(int direction) {
+            events.add("direction " + direction);
+        }
+
+        @Override
+        public void onSkip(int seat) {
+            events.add("skip " + seat);
+        }
+
+        @Override
+        public void onDrawTwo(int seat, int count) {
+            events.add("draw two " + seat + " " + count);
+        }
+
+        @Override
+        public void onGameOver(int winnerSeat, int loserSeat) {
+            events.add("game over " + winnerSeat + " " + loserSeat);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.cardgame.model.replay;
+
+import com.cardgame.model.ai.PriorityStrategy;
+import com.cardgame.model.game.GameEngine;
+import com.cardgame.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayTest {
+    private static final long SEED = 1234L;
+
+    @Test
+    void replayedGameEndsLikeTheRecordedOne() throws IOException {
+        for (long seed = SEED; seed < SEED + 20; seed++) {
+            ByteArrayOutputStream log = new ByteArrayOutputStream();
+            GameEngine recorded = new GameEngine(seed, players());
+            try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(log), seed, recorded)) {
+                play(recorded);
+                assertFalse(writer.isFailed());
+            }
+
+            try (Replay replay = new Replay(reader(log.toByteArray()))) {
+                replay.playToEnd();
+                GameEngine replayed = replay.getEngine();
+                assertEquals(recorded.isGameOver(), replayed.isGameOver());
+                assertEquals(recorded.getWinnerIndex(), replayed.getWinnerIndex());
+                assertEquals(recorded.getTurnCount(), replayed.getTurnCount());
+                assertEquals(recorded.getTopCard(), replayed.getTopCard());
+            }
+        }
+    }
+
+    @Test
+    void headerKeepsSeedAndSeats() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        List<Player> players = List.of(new Player("Ådne", false), new Player("Computer", true));
+        GameEngine engine = new GameEngine(SEED, players);
+        new ReplayWriter(Channels.newChannel(log), SEED, engine).close();
+
+        try (ReplayReader reader = reader(log.toByteArray())) {
+            assertEquals(SEED, reader.getSeed());
+            List<Player> read = reader.createPlayers();
+            assertEquals(2, read.size());
+            assertEquals("Ådne", read.get(0).getName());
+            assertFalse(read.get(0).isComputer());
+            assertEquals("Computer", read.get(1).getName());
+            assertTrue(read.get(1).isComputer());
+
+            // Only the deal was recorded
+            assertTrue(reader.next());
+            assertEquals(engine.getTopCard(), reader.getCard());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void readerRejectsOtherData() {
+        byte[] data = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThrows(IOException.class, () -> reader(data));
+    }
+
+    @Test
+    void readerRejectsTruncatedHeader() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        new ReplayWriter(Channels.newChannel(log), SEED, new GameEngine(SEED, players())).close();
+        byte[] header = log.toByteArray();
+
+        // Cut off in the middle of the seat names
+        byte[] truncated = Arrays.copyOf(header, header.length - 12);
+        assertThrows(IOException.class, () -> reader(truncated));
+    }
+
+    @Test
+    void readerRejectsOversizedHeader() {
+        assertCorrupt(header(0));
+        assertCorrupt(header(ReplayFormat.MAX_SEATS + 1));
+        assertCorrupt(header(Integer.MAX_VALUE));
+        // One seat whose name claims 1000 bytes
+        assertCorrupt(header(1, 0, 1000));
+        // A name length that decodes to a negative number
+        assertCorrupt(header(1, 0, -1));
+    }
+
+    @Test
+    void writerRefusesWhatTheReaderWouldReject() {
+        List<Player> crowd = new ArrayList<>();
+        for (int i = 0; i <= ReplayFormat.MAX_SEATS; i++) {
+            crowd.add(new Player("Player " + (i + 1), true));
+        }
+        assertThrows(IOException.class, () -> new ReplayWriter(
+                Channels.newChannel(new ByteArrayOutputStream()), SEED, new GameEngine(SEED, crowd)));
+
+        List<Player> longName = List.of(new Player("x".repeat(ReplayFormat.MAX_NAME_BYTES + 1), false));
+        assertThrows(IOException.class, () -> new ReplayWriter(
+                Channels.newChannel(new ByteArrayOutputStream()), SEED, new GameEngine(SEED, longName)));
+    }
+
+    @Test
+    void writeErrorStopsRecordingButNotTheGame() throws IOException {
+        IOException failure = new IOException("disk full");
+        FailingChannel channel = new FailingChannel(failure);
+        GameEngine engine = new GameEngine(SEED, players());
+        ReplayWriter writer = new ReplayWriter(channel, SEED, engine);
+        channel.failing = true;
+
+        play(engine);
+        // The error is reported once, through the writer rather than close()
+        writer.close();
+
+        assertTrue(engine.isGameOver());
+        assertTrue(writer.isFailed());
+        assertSame(failure, writer.getError());
+    }
+
+    private static List<Player> players() {
+        return List.of(new Player("Player 1", true), new Player("Player 2", true),
+                new Player("Player 3", true), new Player("Player 4", true));
+    }
+
+    private static void play(GameEngine engine) {
+        PriorityStrategy strategy = new PriorityStrategy();
+        while (!engine.isGameOver() && engine.getTurnCount() < 10_000) {
+            int playIndex = strategy.chooseCard(engine);
+            if (playIndex != -1) {
+                engine.playCard(playIndex);
+            } else {
+                engine.drawAndPlay();
+            }
+        }
+    }
+
+    private static void assertCorrupt(byte[] log) {
+        IOException e = assertThrows(IOException.class, () -> reader(log));
+        assertEquals("Corrupt replay log", e.getMessage());
+    }
+
+    /**
+     * Builds a log header by hand: magic, version and seed, then the given varints.
+     */
+    private static byte[] header(int... varints) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put((byte) ReplayFormat.VERSION);
+        buffer.putLong(SEED);
+        for (int value : varints) {
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static ReplayReader reader(byte[] log) throws IOException {
+        return new ReplayReader(Channels.newChannel(new ByteArrayInputStream(log)));
+    }
+
+    private static final class FailingChannel implements WritableByteChannel {
+        private final IOException failure;
+        boolean failing;
+        private boolean open = true;
+
+        FailingChannel(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failing) throw failure;
+            int written = src.remaining();
+            src.position(src.limit());
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.cardgame;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces the game loop: ticks run at a fixed rate on the game thread,
+ * frames at a target rate on the render thread, and in between each thread
+ * is parked until its next deadline instead of spinning. The tick and the
+ * frame methods each touch only their own fields, so the two threads can
+ * share a scheduler.
+ */
+final class FrameScheduler {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Parking can overshoot, so the last bit of a wait is spun instead
+    private static final long SPIN_NANOS = 100_000;
+
+    // Ticks further behind than this are dropped, so a long stall doesn't
+    // make the game run at full speed until it has caught up
+    private static final int MAX_CATCH_UP_TICKS = 10;
+
+    private final long tickNanos;
+    private final long frameNanos;
+    private long nextTick;
+    private long nextFrame;
+
+    // Frames rendered in the current second, and in the last full second
+    private long fpsWindowStart;
+    private int framesThisSecond;
+    private volatile int framesPerSecond;
+
+    /**
+     * @param ticksPerSecond How often the game state is updated
+     * @param targetFps The highest number of frames rendered per second
+     */
+    FrameScheduler(int ticksPerSecond, int targetFps) {
+        if (ticksPerSecond <= 0 || targetFps <= 0) {
+            throw new IllegalArgumentException("Rates must be positive");
+        }
+        this.tickNanos = NANOS_PER_SECOND / ticksPerSecond;
+        this.frameNanos = NANOS_PER_SECOND / targetFps;
+        startTicks();
+        startFrames();
+    }
+
+    /**
+     * Makes the first tick due now.
+     */
+    void startTicks() {
+        nextTick = System.nanoTime();
+    }
+
+    /**
+     * Makes the first frame due now.
+     */
+    void startFrames() {
+        long now = System.nanoTime();
+        nextFrame = now;
+        fpsWindowStart = now;
+        framesThisSecond = 0;
+    }
+
+    boolean isTickDue() {
+        return System.nanoTime() - nextTick >= 0;
+    }
+
+    void tickDone() {
+        nextTick += tickNanos;
+        long now = System.nanoTime();
+        if (now - nextTick > MAX_CATCH_UP_TICKS * tickNanos) {
+            nextTick = now;
+        }
+    }
+
+    boolean isFrameDue() {
+        return System.nanoTime() - nextFrame >= 0;
+    }
+
+    /**
+     * Moves on to the next frame deadline, whether this frame was rendered or skipped.
+     *
+     * @param rendered Whether a frame was rendered
+     */
+    void frameDone(boolean rendered) {
+        long now = System.nanoTime();
+        nextFrame += frameNanos;
+        if (now - nextFrame > 0) {
+            // Running late; don't render a burst of frames to catch up
+            nextFrame = now + frameNanos;
+        }
+
+        if (rendered) {
+            framesThisSecond++;
+        }
+        if (now - fpsWindowStart >= NANOS_PER_SECOND) {
+            framesPerSecond = framesThisSecond;
+            framesThisSecond = 0;
+            fpsWindowStart += NANOS_PER_SECOND * ((now - fpsWindowStart) / NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Parks the game thread until the next tick is due.
+     */
+    void waitForNextTick() {
+        waitUntil(nextTick);
+    }
+
+    /**
+     * Parks the render thread until the next frame is due.
+     */
+    void waitForNextFrame() {
+        waitUntil(nextFrame);
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Gets the number of frames rendered in the last full second; skipped idle frames don't count.
+     */
+    int getFramesPerSecond() {
+        return framesPerSecond;
+    }
+}
@@ -0,0 +1,452 @@
+package com.cardgame;
+
+import com.cardgame.controller.states.GameState;
+import com.cardgame.controller.states.MenuState;
+import com.cardgame.controller.states.PlayState;
+import com.cardgame.controller.states.PlayerSelectionState;
+import com.cardgame.metrics.FrameMetrics;
+import com.cardgame.metrics.RenderPhaseEvent;
+import com.cardgame.metrics.StateTransitionEvent;
+import com.cardgame.model.replay.Replay;
+import com.cardgame.view.animations.CardAnimation;
+
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Game extends JFrame implements Runnable {
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final String TITLE = "Card Game";
+    private static final int TICKS_PER_SECOND = 60;
+    private static final long ANIMATION_STEP_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    private static final int DEFAULT_TARGET_FPS = 60;
+    private static final int INPUT_QUEUE_CAPACITY = 1024;
+
+    private volatile boolean running;
+    // The game state is updated on the game thread and drawn on the render thread
+    private Thread gameThread;
+    private Thread renderThread;
+    private BufferStrategy bs;
+    private Graphics2D g2d;
+
+    // The last rendered frame of the current state, repainted where the state marks it dirty
+    private BufferedImage sceneLayer;
+
+    // Only changed on the game loop thread once it runs; volatile for the hand-over from the event thread
+    private volatile GameState currentState;
+
+    // Advanced and drawn on the render thread only, one step per tick period
+    private CardAnimation cardAnimation;
+    private long animationTime;
+
+    // Frame rate cap, set with -Dcardgame.fps=<frames per second>
+    private final FrameScheduler scheduler =
+            new FrameScheduler(TICKS_PER_SECOND, Integer.getInteger("cardgame.fps", DEFAULT_TARGET_FPS));
+    private volatile boolean presentRequested = true;
+
+    // Loop timings; -Dcardgame.metrics.dump=<seconds> sets how often they are printed (0 never),
+    // -Dcardgame.metrics.overlay=true shows them from the start, F3 toggles them
+    private final FrameMetrics metrics = new FrameMetrics(Integer.getInteger("cardgame.metrics.dump", 60));
+
+    // Input is queued by the event thread and handled at the start of each tick,
+    // so game state is only ever touched by the game loop thread
+    private final InputQueue input = new InputQueue(INPUT_QUEUE_CAPACITY);
+
+    public Game() {
+        setTitle(TITLE);
+        setSize(WIDTH, HEIGHT);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setResizable(false);
+        setLocationRelativeTo(null);
+
+        cardAnimation = new CardAnimation();
+
+        addMouseListener(new MouseListener() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                queueInput(e);
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                queueInput(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                queueInput(e);
+            }
+
+            @Override
+            public void mouseEntered(MouseEvent e) {}
+
+            @Override
+            public void mouseExited(MouseEvent e) {}
+        });
+
+        addMouseMotionListener(new MouseMotionListener() {
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                queueInput(e);
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                queueInput(e);
+            }
+        });
+        
+        // Add keyboard listener
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                queueInput(e);
+            }
+        });
+        
+        // Make sure the frame can receive keyboard events
+        setFocusable(true);
+        requestFocus();
+
+        metrics.setOverlayVisible(Boolean.getBoolean("cardgame.metrics.overlay"));
+
+        // Start with menu state
+        setState(new MenuState(this));
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        
+        // Make the window visible first
+        setVisible(true);
+        
+        // Create buffer strategy after window is visible
+        createBufferStrategy(3);
+        bs = getBufferStrategy();
+        
+        // Start the game and render threads
+        gameThread = new Thread(this, "game-loop");
+        renderThread = new Thread(this::renderLoop, "render-loop");
+        gameThread.start();
+        renderThread.start();
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        try {
+            for (Thread thread : new Thread[] {gameThread, renderThread}) {
+                if (thread != Thread.currentThread()) {
+                    thread.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * The game loop: runs the ticks. Each tick ends by publishing what the
+     * current state shows, which the render loop then draws on its own
+     * thread, so a slow frame never holds up the game or the other way round.
+     */
+    @Override
+    public void run() {
+        scheduler.startTicks();
+
+        while (running) {
+            while (scheduler.isTickDue()) {
+                long tickStart = System.nanoTime();
+                tick();
+                metrics.recordTick(System.nanoTime() - tickStart);
+                scheduler.tickDone();
+            }
+
+            scheduler.waitForNextTick();
+        }
+        stop();
+    }
+
+    private void renderLoop() {
+        scheduler.startFrames();
+
+        while (running) {
+            if (metrics.update(scheduler.getFramesPerSecond())) {
+                presentRequested = true;
+            }
+            updateAnimation();
+
+            if (scheduler.isFrameDue()) {
+                // Idle mode: when nothing has changed the last frame stays on screen
+                boolean rendered = needsRender();
+                if (rendered) {
+                    long renderStart = System.nanoTime();
+                    render();
+                    metrics.recordRender(System.nanoTime() - renderStart);
+                }
+                scheduler.frameDone(rendered);
+            }
+
+            scheduler.waitForNextFrame();
+        }
+    }
+
+    /**
+     * Advances the card animation by the ticks that have passed, so it moves
+     * at the same speed whatever the frame rate.
+     */
+    private void updateAnimation() {
+        long now = System.nanoTime();
+        if (!cardAnimation.isAnimating()) {
+            animationTime = now;
+            return;
+        }
+        while (now - animationTime >= ANIMATION_STEP_NANOS && cardAnimation.isAnimating()) {
+            cardAnimation.update();
+            animationTime += ANIMATION_STEP_NANOS;
+        }
+    }
+
+    private boolean needsRender() {
+        if (presentRequested || cardAnimation.isAnimating()) {
+            return true;
+        }
+        return currentState != null && currentState.isDirty();
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        // The window was exposed; the game loop paints it with the next frame
+        presentRequested = true;
+    }
+
+    /**
+     * Gets the number of frames rendered in the last second.
+     */
+    public int getFramesPerSecond() {
+        return scheduler.getFramesPerSecond();
+    }
+
+    private void queueInput(InputEvent e) {
+        if (!input.offer(e)) {
+            // Only possible if the game loop has stalled for a long time
+            System.err.println("Input queue full, dropped " + e.paramString());
+        }
+    }
+
+    /**
+     * Handles the input queued since the last tick. A fast mouse sends many
+     * moves per tick, so a run of moves is handled as its last one only;
+     * every other event is handled in order.
+     */
+    private void handleInput() {
+        MouseEvent pendingMove = null;
+        InputEvent e;
+        while ((e = input.poll()) != null) {
+            if (isMove(e)) {
+                pendingMove = (MouseEvent) e;
+                continue;
+            }
+            if (pendingMove != null) {
+                handleMouseEvent(pendingMove);
+                pendingMove = null;
+            }
+            if (e instanceof MouseEvent) {
+                handleMouseEvent((MouseEvent) e);
+            } else if (e instanceof KeyEvent) {
+                handleKeyEvent((KeyEvent) e);
+            }
+        }
+        if (pendingMove != null) {
+            handleMouseEvent(pendingMove);
+        }
+    }
+
+    private static boolean isMove(InputEvent e) {
+        return e.getID() == MouseEvent.MOUSE_MOVED || e.getID() == MouseEvent.MOUSE_DRAGGED;
+    }
+
+    private void handleMouseEvent(MouseEvent e) {
+        if (currentState != null) {
+            currentState.handleMouseEvent(e);
+        }
+    }
+
+    private void handleKeyEvent(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            metrics.setOverlayVisible(!metrics.isOverlayVisible());
+            return;
+        }
+        if (currentState != null && currentState instanceof PlayerSelectionState) {
+            ((PlayerSelectionState) currentState).handleKeyEvent(e.getKeyChar(), e.getKeyCode());
+        }
+    }
+
+    private void tick() {
+        handleInput();
+        GameState state = currentState;
+        if (state != null) {
+            state.tick();
+            state.endTick();
+        }
+    }
+
+    private void render() {
+        if (bs == null) {
+            createBufferStrategy(3);
+            bs = getBufferStrategy();
+            if (bs == null) {
+                return;
+            }
+        }
+
+        presentRequested = false;
+
+        // Repaint the changed part of the scene into the retained layer
+        RenderPhaseEvent sceneEvent = new RenderPhaseEvent();
+        sceneEvent.begin();
+        renderScene();
+        commitRenderPhase(sceneEvent, RenderPhaseEvent.SCENE);
+
+        // Buffer contents can be lost while idle, e.g. when the display changes,
+        // so redraw until a frame has been shown intact
+        RenderPhaseEvent presentEvent = new RenderPhaseEvent();
+        presentEvent.begin();
+        do {
+            do {
+                g2d = (Graphics2D) bs.getDrawGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+                // Copy the scene to the back buffer
+                g2d.drawImage(sceneLayer, 0, 0, null);
+
+                // Render card animations
+                cardAnimation.render(g2d);
+
+                metrics.renderOverlay(g2d, getWidth());
+
+                // Clean up
+                g2d.dispose();
+            } while (bs.contentsRestored());
+            bs.show();
+        } while (bs.contentsLost());
+        commitRenderPhase(presentEvent, RenderPhaseEvent.PRESENT);
+    }
+
+    private void commitRenderPhase(RenderPhaseEvent event, String phase) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.state = currentState != null ? currentState.getClass().getSimpleName() : null;
+            event.commit();
+        }
+    }
+
+    private void renderScene() {
+        Rectangle screen = new Rectangle(0, 0, getWidth(), getHeight());
+        boolean newLayer = false;
+        if (sceneLayer == null || sceneLayer.getWidth() != screen.width || sceneLayer.getHeight() != screen.height) {
+            sceneLayer = getGraphicsConfiguration().createCompatibleImage(screen.width, screen.height);
+            newLayer = true;
+        }
+
+        Graphics2D layer = sceneLayer.createGraphics();
+        try {
+            layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            layer.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            // The game thread may switch states meanwhile; this frame draws the one read here
+            GameState state = currentState;
+            Rectangle dirty = state != null ? state.takeDirtyRegion(screen) : screen;
+            if (newLayer) {
+                dirty = screen; // A new layer has nothing on it yet
+            }
+            if (dirty == null) {
+                return; // Nothing changed since the last frame
+            }
+            layer.clip(dirty);
+
+            // Clear the dirty area
+            layer.setColor(Color.BLACK);
+            layer.fill(dirty);
+
+            // Render current state
+            if (state != null) {
+                long stateStart = System.nanoTime();
+                state.render(layer);
+                metrics.recordStateRender(state.getClass(), System.nanoTime() - stateStart);
+            }
+        } finally {
+            layer.dispose();
+        }
+    }
+
+    public void setState(GameState state) {
+        StateTransitionEvent event = new StateTransitionEvent();
+        event.begin();
+        GameState previous = currentState;
+
+        if (currentState != null) {
+            currentState.onExit();
+        }
+        currentState = state;
+        if (currentState != null) {
+            currentState.markDirty();
+            currentState.onEnter();
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.from = previous != null ? previous.getClass().getSimpleName() : null;
+            event.to = state != null ? state.getClass().getSimpleName() : null;
+            event.commit();
+        }
+    }
+
+
+    /**
+     * Gets the card animation. It is advanced and drawn by the render
+     * thread, so it may only be started from there.
+     */
+    public CardAnimation getCardAnimation() {
+        return cardAnimation;
+    }
+
+    public void runLater(Runnable action) {
+        SwingUtilities.invokeLater(action);
+    }
+
+    /**
+     * Starts the game. With {@code --replay <file> [ticksPerMove]} it shows
+     * a recorded game instead of the menu.
+     */
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> {
+            Game game = new Game();
+            if (args.length > 1 && args[0].equals("--replay")) {
+                int ticksPerMove = args.length > 2 ? Integer.parseInt(args[2]) : TICKS_PER_SECOND;
+                try {
+                    game.setState(new PlayState(game, Replay.open(Path.of(args[1])), ticksPerMove));
+                } catch (IOException e) {
+                    System.err.println("Can't open replay " + args[1] + ": " + e.getMessage());
+                }
+            }
+            game.start();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.cardgame;
+
+import java.awt.event.InputEvent;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands input events from the Swing event thread to the game loop thread.
+ * A fixed ring buffer with one producer and one consumer: each side only
+ * writes its own counter and publishes it with an ordered store, so
+ * neither side ever takes a lock or waits for the other.
+ */
+final class InputQueue {
+    private final InputEvent[] events;
+    private final int mask;
+
+    // Next slot to read; written by the game loop only
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write; written by the event thread only
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity The most events held at once, a power of two
+     */
+    InputQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.events = new InputEvent[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an event. Only called on the event thread.
+     *
+     * @return false if the queue was full and the event was dropped
+     */
+    boolean offer(InputEvent event) {
+        long t = tail.get();
+        if (t - head.get() == events.length) {
+            return false;
+        }
+        events[(int) t & mask] = event;
+        // Publishes the slot together with the new tail
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Takes the oldest event. Only called on the game loop thread.
+     *
+     * @return The event, or null if the queue is empty
+     */
+    InputEvent poll() {
+        long h = head.get();
+        if (h == tail.get()) {
+            return null;
+        }
+        int slot = (int) h & mask;
+        InputEvent event = events[slot];
+        events[slot] = null;
+        // Hands the slot back to the producer
+        head.lazySet(h + 1);
+        return event;
+    }
+}
@@ -0,0 +1,131 @@
+package com.cardgame.controller.states;
+
+import com.cardgame.Game;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+
+public abstract class GameState {
+    // Extra space around dirty areas for shadows, strokes and antialiasing
+    private static final int DIRTY_MARGIN = 3;
+
+    protected Game game;
+
+    // Changes marked during the current tick; only used by the game thread
+    private final Rectangle pendingRegion = new Rectangle();
+    private boolean pendingAll;
+
+    // The area that has changed since the last frame; guarded by this
+    private final Rectangle dirtyRegion = new Rectangle();
+    private boolean allDirty = true;
+
+    public GameState(Game game) {
+        this.game = game;
+    }
+
+    public abstract void tick();
+    public abstract void render(Graphics g);
+    public abstract void onEnter();
+    public abstract void onExit();
+    
+    public void handleMouseEvent(MouseEvent e) {
+        // Default implementation does nothing
+        // Subclasses should override this if they need to handle mouse events
+    }
+
+    /**
+     * Whether this state reports what changed through markDirty, so the game
+     * can keep its last frame and only repaint the dirty region. States that
+     * don't are repainted completely every frame.
+     *
+     * @return true if this state marks its changes
+     */
+    protected boolean usesDirtyRegions() {
+        return false;
+    }
+
+    /**
+     * Publishes what this state shows for the render thread to draw. Called
+     * on the game thread after every tick; states that render from a
+     * snapshot instead of their live fields copy it here.
+     */
+    protected void publishFrame() {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Ends a tick: publishes the frame, then the areas marked as changed
+     * during the tick. In this order the renderer never repaints a changed
+     * area from an older frame.
+     */
+    public final void endTick() {
+        publishFrame();
+        synchronized (this) {
+            if (pendingAll) {
+                allDirty = true;
+            } else if (!allDirty && !pendingRegion.isEmpty()) {
+                if (dirtyRegion.isEmpty()) {
+                    dirtyRegion.setBounds(pendingRegion);
+                } else {
+                    dirtyRegion.add(pendingRegion);
+                }
+            }
+        }
+        pendingAll = false;
+        pendingRegion.setBounds(0, 0, 0, 0);
+    }
+
+    /**
+     * Marks the whole screen as changed. The change is shown after the current tick.
+     */
+    public void markDirty() {
+        pendingAll = true;
+    }
+
+    /**
+     * Marks an area of the screen as changed. The change is shown after the current tick.
+     */
+    protected void markDirty(int x, int y, int width, int height) {
+        if (pendingAll) return;
+        Rectangle area = new Rectangle(x - DIRTY_MARGIN, y - DIRTY_MARGIN,
+                width + 2 * DIRTY_MARGIN, height + 2 * DIRTY_MARGIN);
+        if (pendingRegion.isEmpty()) {
+            pendingRegion.setBounds(area);
+        } else {
+            pendingRegion.add(area);
+        }
+    }
+
+    protected void markDirty(Rectangle area) {
+        markDirty(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Checks whether anything has changed since the last frame.
+     *
+     * @return true if the state needs repainting
+     */
+    public synchronized boolean isDirty() {
+        return allDirty || !usesDirtyRegions() || !dirtyRegion.isEmpty();
+    }
+
+    /**
+     * Gets the area to repaint and starts collecting changes for the next frame.
+     *
+     * @param screen The bounds of the whole screen
+     * @return The area to repaint, or null if nothing has changed
+     */
+    public synchronized Rectangle takeDirtyRegion(Rectangle screen) {
+        Rectangle region;
+        if (allDirty || !usesDirtyRegions()) {
+            region = new Rectangle(screen);
+        } else if (!dirtyRegion.isEmpty()) {
+            region = dirtyRegion.intersection(screen);
+        } else {
+            region = null;
+        }
+        allDirty = false;
+        dirtyRegion.setBounds(0, 0, 0, 0);
+        return region;
+    }
+}
@@ -1,6 +1,8 @@
 package com.cardgame.controller.states;
 
 import com.cardgame.Game;
+import com.cardgame.view.Theme;
+import com.cardgame.view.components.HitGrid;
 import com.cardgame.view.components.ModernButton;
 import java.awt.*;
 import java.awt.event.MouseEvent;
@@ -15,6 +17,12 @@ public class MenuState extends GameState {
     private Rectangle rulesBounds;
     private Rectangle exitBounds;
 
+    // Buttons by hit grid id
+    private ModernButton[] buttons;
+    private Rectangle[] buttonBounds;
+    private final HitGrid hitGrid = new HitGrid(800, 600, 50);
+    private int hoveredButton = -1;
+
     public MenuState(Game game) {
         super(game);
         initializeButtons();
@@ -37,6 +45,18 @@ public class MenuState extends GameState {
         humanPlayButton = new ModernButton("Play with Humans");
         rulesButton = new ModernButton("Rules");
         exitButton = new ModernButton("Exit");
+
+        buttons = new ModernButton[] {playButton, humanPlayButton, rulesButton, exitButton};
+        buttonBounds = new Rectangle[] {playBounds, humanPlayBounds, rulesBounds, exitBounds};
+        for (int i = 0; i < buttons.length; i++) {
+            hitGrid.add(i, buttonBounds[i]);
+        }
+    }
+
+    private void setHovered(int button, boolean hovered) {
+        if (button >= 0 && buttons[button].setHovered(hovered)) {
+            markDirty(buttonBounds[button]);
+        }
     }
 
     @Override
@@ -44,26 +64,28 @@ public class MenuState extends GameState {
         // No continuous updates needed for menu
     }
 
+    @Override
+    protected boolean usesDirtyRegions() {
+        // Only the buttons change, when hovered or pressed
+        return true;
+    }
+
     @Override
     public void render(Graphics g) {
         // Draw background gradient
         Graphics2D g2d = (Graphics2D) g;
-        GradientPaint gradient = new GradientPaint(
-            0, 0, new Color(40, 44, 52),
-            0, 600, new Color(24, 26, 31)
-        );
-        g2d.setPaint(gradient);
+        g2d.setPaint(Theme.BACKGROUND_GRADIENT);
         g2d.fillRect(0, 0, 800, 600);
 
         // Draw title with shadow
-        g.setFont(new Font("Arial", Font.BOLD, 48));
+        g.setFont(Theme.TITLE_FONT);
         String title = "Card Game";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (800 - fm.stringWidth(title)) / 2;
         int titleY = 150;
 
         // Draw shadow
-        g.setColor(new Color(0, 0, 0, 100));
+        g.setColor(Theme.SHADOW);
         g.drawString(title, titleX + 2, titleY + 2);
 
         // Draw title
@@ -71,7 +93,7 @@ public class MenuState extends GameState {
         g.drawString(title, titleX, titleY);
 
         // Draw decorative line under title
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(Theme.MEDIUM_STROKE);
         g2d.drawLine(titleX, titleY + 10, titleX + fm.stringWidth(title), titleY + 10);
 
         // Draw buttons with their current bounds
@@ -81,8 +103,8 @@ public class MenuState extends GameState {
         exitButton.render(g, exitBounds.x, exitBounds.y, exitBounds.width, exitBounds.height);
 
         // Draw version text
-        g.setFont(new Font("Arial", Font.PLAIN, 12));
-        g.setColor(new Color(200, 200, 200));
+        g.setFont(Theme.SMALL_FONT);
+        g.setColor(Theme.TEXT_MUTED);
         String version = "Version 1.0";
         g.drawString(version, 10, 580);
     }
@@ -93,23 +115,25 @@ public class MenuState extends GameState {
 
         // Handle hover effects
         if (e.getID() == MouseEvent.MOUSE_MOVED) {
-            playButton.setHovered(playBounds.contains(mouse));
-            humanPlayButton.setHovered(humanPlayBounds.contains(mouse));
-            rulesButton.setHovered(rulesBounds.contains(mouse));
-            exitButton.setHovered(exitBounds.contains(mouse));
+            int hit = hitGrid.hitTest(mouse.x, mouse.y);
+            if (hit != hoveredButton) {
+                setHovered(hoveredButton, false);
+                setHovered(hit, true);
+                hoveredButton = hit;
+            }
             return;
         }
 
         // Handle button press effects
         if (e.getID() == MouseEvent.MOUSE_PRESSED) {
             if (playBounds.contains(mouse)) {
-                playButton.setPressed(true);
+                if (playButton.setPressed(true)) markDirty(playBounds);
             } else if (humanPlayBounds.contains(mouse)) {
-                humanPlayButton.setPressed(true);
+                if (humanPlayButton.setPressed(true)) markDirty(humanPlayBounds);
             } else if (rulesBounds.contains(mouse)) {
-                rulesButton.setPressed(true);
+                if (rulesButton.setPressed(true)) markDirty(rulesBounds);
             } else if (exitBounds.contains(mouse)) {
-                exitButton.setPressed(true);
+                if (exitButton.setPressed(true)) markDirty(exitBounds);
             }
             return;
         }
@@ -117,10 +141,10 @@ public class MenuState extends GameState {
         // Handle button release and click effects
         if (e.getID() == MouseEvent.MOUSE_RELEASED || e.getID() == MouseEvent.MOUSE_CLICKED) {
             // Reset pressed states
-            playButton.setPressed(false);
-            humanPlayButton.setPressed(false);
-            rulesButton.setPressed(false);
-            exitButton.setPressed(false);
+            if (playButton.setPressed(false)) markDirty(playBounds);
+            if (humanPlayButton.setPressed(false)) markDirty(humanPlayBounds);
+            if (rulesButton.setPressed(false)) markDirty(rulesBounds);
+            if (exitButton.setPressed(false)) markDirty(exitBounds);
 
             // Handle button actions
             if (playBounds.contains(mouse)) {
@@ -146,6 +170,7 @@ public class MenuState extends GameState {
         rulesButton.setPressed(false);
         exitButton.setHovered(false);
         exitButton.setPressed(false);
+        hoveredButton = -1;
     }
 
     @Override
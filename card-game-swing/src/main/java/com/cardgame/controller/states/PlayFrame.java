@@ -0,0 +1,60 @@
+package com.cardgame.controller.states;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Everything the play screen draws, copied from the game at the end of a
+ * tick. PlayState fills one of three pooled frames on the game thread and
+ * hands it to the render thread through a
+ * {@link com.cardgame.view.TripleBuffer}, so rendering never reads the live
+ * game. The arrays only grow, so refilling a frame doesn't allocate.
+ */
+final class PlayFrame {
+    boolean gameOver;
+    int topCard;
+    int currentPlayer;
+    int deckCount;
+
+    int playerCount;
+    String[] names = new String[0];
+    boolean[] computers = new boolean[0];
+    int[] handSizes = new int[0];
+
+    // The hand shown face up and where its cards go; the bounds are replaced,
+    // never changed, by the game thread, so the array is shared
+    int handCount;
+    int[] hand = new int[0];
+    Rectangle[] cardBounds = new Rectangle[0];
+
+    String message; // null when no message is shown
+
+    // Each button's label is captured with its state, so they always match
+    String drawText;
+    boolean drawHovered;
+    boolean drawPressed;
+    String backText;
+    boolean backHovered;
+    boolean backPressed;
+
+    String winnerName;
+    String loserName; // null if nobody is punished
+    BufferedImage outcomeImage; // null while the outcome isn't shown
+
+    void setPlayerCount(int count) {
+        playerCount = count;
+        if (names.length < count) {
+            names = Arrays.copyOf(names, count);
+            computers = Arrays.copyOf(computers, count);
+            handSizes = Arrays.copyOf(handSizes, count);
+        }
+    }
+
+    void setHandCount(int count) {
+        handCount = count;
+        if (hand.length < count) {
+            hand = Arrays.copyOf(hand, Math.max(count, hand.length * 2));
+        }
+    }
+}
@@ -0,0 +1,816 @@
+package com.cardgame.controller.states;
+
+import com.cardgame.Game;
+import com.cardgame.metrics.CardDrawnEvent;
+import com.cardgame.metrics.CardPlayedEvent;
+import com.cardgame.metrics.ComputerDecisionEvent;
+import com.cardgame.model.ai.ComputerStrategy;
+import com.cardgame.model.ai.MctsStrategy;
+import com.cardgame.model.ai.StrategyType;
+import com.cardgame.model.card.Card;
+import com.cardgame.model.card.CardCode;
+import com.cardgame.model.player.Player;
+import com.cardgame.model.player.PlayerManager;
+import com.cardgame.model.replay.Replay;
+import com.cardgame.model.replay.ReplayReader;
+import com.cardgame.model.replay.ReplayWriter;
+import com.cardgame.view.animations.GameOutcome;
+import com.cardgame.view.components.HitGrid;
+import com.cardgame.view.Theme;
+import com.cardgame.view.TripleBuffer;
+import com.cardgame.view.components.ModernButton;
+import com.cardgame.view.sprites.CardRenderer;
+import com.cardgame.model.game.GameEngine;
+
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class PlayState extends GameState {
+    private List<Player> players;
+    private GameEngine engine;
+    private final ComputerStrategy computerStrategy;
+    private ModernButton drawButton;
+    private Rectangle drawBounds;
+    private ModernButton backToMenuButton;
+    private Rectangle backToMenuBounds;
+    private Rectangle[] cardBounds;
+
+    // Hit grid ids: the two buttons, then the cards of the hand shown
+    private static final int DRAW_BUTTON = 0;
+    private static final int BACK_TO_MENU_BUTTON = 1;
+    private static final int FIRST_CARD = 2;
+    private final HitGrid hitGrid = new HitGrid(800, 600, 50);
+    private int hoveredButton = -1;
+
+    // What render draws, published at the end of every tick
+    private final TripleBuffer<PlayFrame> frames = new TripleBuffer<>(PlayFrame::new);
+    private String message;
+    private int messageTimer;
+    private boolean showingOutcome;
+    private BufferedImage outcomeImage;
+    private int outcomeAnimationTimer;
+    private static final int OUTCOME_ANIMATION_DURATION = 300; // 5 seconds at 60 FPS
+    private static final int COMPUTER_THINK_TICKS = 60; // 1 second at 60 FPS
+
+    // Screen areas repainted on their own, see GameState.markDirty
+    private static final Rectangle MESSAGE_AREA = new Rectangle(0, 276, 800, 32);
+    private static final Rectangle OUTCOME_AREA = new Rectangle(250, 340, 300, 200);
+
+    // Computer decisions run here so the game loop never waits for them
+    private static final ExecutorService COMPUTER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "computer-player");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<Integer> computerDecision;
+    private int computerThinkTimer;
+
+    // Every game is recorded here unless -Dcardgame.replay.dir is set to an empty string
+    private static final String REPLAY_DIR = System.getProperty("cardgame.replay.dir",
+            Path.of(System.getProperty("user.home"), ".cardgame", "replays").toString());
+
+    private ReplayWriter recorder;
+    private Replay replay;
+    private int replayTicksPerMove;
+    private int replayTimer;
+    private boolean replayFinished;
+
+    public PlayState(Game game) {
+        super(game);
+        computerStrategy = StrategyType.SIMPLE.create();
+        players = new ArrayList<>();
+        players.add(new Player("Player", false));
+        players.add(new Player("Computer", true));
+        initializeGame();
+    }
+
+    public PlayState(Game game, List<String> playerNames, boolean includeComputer) {
+        this(game, playerNames, includeComputer, StrategyType.SIMPLE);
+    }
+
+    /**
+     * Constructor that also picks how the computer player plays
+     * @param game The game instance
+     * @param playerNames The names of the human players
+     * @param includeComputer Whether a computer player joins the game
+     * @param computerType The strategy used by the computer player
+     */
+    public PlayState(Game game, List<String> playerNames, boolean includeComputer, StrategyType computerType) {
+        super(game);
+        computerStrategy = computerType.create();
+        players = new ArrayList<>();
+
+        // Add human players
+        for (String name : playerNames) {
+            players.add(new Player(name, false));
+        }
+        
+        // Add computer player if requested
+        if (includeComputer) {
+            players.add(new Player("Computer", true));
+        }
+        
+        initializeGame();
+    }
+    
+    /**
+     * Constructor that accepts a PlayerManager
+     * @param game The game instance
+     * @param playerManager The player manager containing all players
+     */
+    public PlayState(Game game, PlayerManager playerManager) {
+        super(game);
+        computerStrategy = StrategyType.SIMPLE.create();
+        players = new ArrayList<>(playerManager.getPlayers());
+        initializeGame();
+    }
+
+    /**
+     * Constructor that shows a recorded game instead of a new one
+     * @param game The game instance
+     * @param replay The recorded game
+     * @param ticksPerMove The number of ticks between moves, or 0 to jump straight to the end
+     */
+    public PlayState(Game game, Replay replay, int ticksPerMove) {
+        super(game);
+        computerStrategy = StrategyType.SIMPLE.create();
+        this.replay = replay;
+        this.replayTicksPerMove = ticksPerMove;
+        this.replayTimer = ticksPerMove;
+        players = replay.getEngine().getPlayers();
+        initializeGame();
+    }
+
+    private void initializeGame() {
+        if (replay != null) {
+            // The replay has already dealt the recorded cards
+            engine = replay.getEngine();
+        } else {
+            // The engine deals the cards and places the first card face up
+            long seed = new SplittableRandom().nextLong();
+            engine = new GameEngine(seed, players);
+            startRecording(seed);
+        }
+
+        showingOutcome = false;
+        outcomeAnimationTimer = 0;
+        showMessage(players.get(0).getName() + "'s turn! Match the color or number", 120);
+
+        // Initialize UI elements
+        drawButton = new ModernButton("Draw Card");
+        drawBounds = new Rectangle(650, 400, 120, 40);
+        backToMenuButton = new ModernButton("Back to Menu");
+        backToMenuBounds = new Rectangle(650, 500, 120, 40);
+        cardBounds = new Rectangle[7]; // Initial size for 7 cards
+        updateCardBounds();
+
+        // The first frame can be drawn before the first tick
+        publishFrame();
+    }
+
+    private void startRecording(long seed) {
+        if (REPLAY_DIR.isEmpty()) return;
+        Path file = Path.of(REPLAY_DIR, String.format("game-%tY%<tm%<td-%<tH%<tM%<tS-%016x.replay", new Date(), seed));
+        try {
+            recorder = ReplayWriter.create(file, seed, engine);
+        } catch (IOException e) {
+            // Playing matters more than recording
+            e.printStackTrace();
+        }
+    }
+
+    private void stopRecording() {
+        if (recorder == null) return;
+        engine.setListener(null);
+        if (recorder.isFailed()) {
+            System.err.println("Replay recording stopped early: " + recorder.getError());
+        }
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        recorder = null;
+    }
+
+    private void updateCardBounds() {
+        // Only show cards for the current player if they're human
+        Player currentPlayer = getCurrentPlayer();
+        if (currentPlayer.isComputer()) {
+            cardBounds = new Rectangle[0];
+            rebuildHitGrid();
+            return;
+        }
+
+        int handSize = currentPlayer.handSize();
+        int cardWidth = 80;
+        int cardHeight = 120;
+        int spacing = 20;
+        int startX = (800 - (handSize * (cardWidth + spacing) - spacing)) / 2;
+        int y = 400;
+
+        cardBounds = new Rectangle[handSize];
+        for (int i = 0; i < handSize; i++) {
+            cardBounds[i] = new Rectangle(startX + i * (cardWidth + spacing), y, cardWidth, cardHeight);
+        }
+        rebuildHitGrid();
+    }
+
+    private void rebuildHitGrid() {
+        hitGrid.clear();
+        hitGrid.add(DRAW_BUTTON, drawBounds);
+        hitGrid.add(BACK_TO_MENU_BUTTON, backToMenuBounds);
+        for (int i = 0; i < cardBounds.length; i++) {
+            hitGrid.add(FIRST_CARD + i, cardBounds[i]);
+        }
+    }
+
+    private void setHovered(int id, boolean hovered) {
+        if (id == DRAW_BUTTON) {
+            if (drawButton.setHovered(hovered)) markDirty(drawBounds);
+        } else if (id == BACK_TO_MENU_BUTTON) {
+            if (backToMenuButton.setHovered(hovered)) markDirty(backToMenuBounds);
+        }
+    }
+
+    private Player getCurrentPlayer() {
+        return engine.getCurrentPlayer();
+    }
+
+    /**
+     * Refreshes the turn message and card layout after the engine has
+     * moved on to another player.
+     */
+    private void onTurnChanged(Player previousPlayer) {
+        if (!engine.isGameOver() && getCurrentPlayer() != previousPlayer) {
+            showMessage(getCurrentPlayer().getName() + "'s turn", 60);
+        }
+        updateCardBounds();
+    }
+
+    @Override
+    public void tick() {
+        if (messageTimer > 0) {
+            messageTimer--;
+            if (messageTimer == 0) {
+                markDirty(MESSAGE_AREA);
+            }
+        }
+        
+        if (engine.isGameOver()) {
+            if (outcomeAnimationTimer < OUTCOME_ANIMATION_DURATION) {
+                outcomeAnimationTimer++;
+                if (outcomeAnimationTimer == 1) {
+                    // Start showing the outcome animation on the first frame
+                    showingOutcome = true;
+                    // Reset the animation frame to trigger the roulette effect
+                    GameOutcome.resetAnimation();
+                    stopRecording();
+                    markDirty();
+                }
+            }
+            if (showingOutcome && engine.getLoser() != null) {
+                // The animation moves on every tick
+                outcomeImage = GameOutcome.getRandomOutcomeImage();
+                markDirty(OUTCOME_AREA);
+            }
+            return;
+        }
+
+        if (replay != null) {
+            tickReplay();
+            return;
+        }
+        
+        // Handle computer turns without blocking the game loop: the decision is
+        // computed on a worker thread while the think delay counts down
+        Player currentPlayer = getCurrentPlayer();
+        if (currentPlayer.isComputer()) {
+            if (computerDecision == null) {
+                startComputerTurn();
+            } else if (computerThinkTimer > 0) {
+                computerThinkTimer--;
+            } else if (computerDecision.isDone()) {
+                handleComputerTurn(takeComputerDecision());
+            }
+        }
+    }
+
+    /**
+     * Makes the next recorded move once the replay delay has passed.
+     */
+    private void tickReplay() {
+        if (replayFinished || --replayTimer > 0) return;
+        replayTimer = replayTicksPerMove;
+
+        Player mover = getCurrentPlayer();
+        try {
+            if (replayTicksPerMove == 0) {
+                replay.playToEnd();
+                finishReplay("End of replay");
+            } else if (!replay.step()) {
+                finishReplay("End of replay");
+            } else {
+                ReplayReader move = replay.getReader();
+                if (move.isPlay()) {
+                    showMessage(mover.getName() + " played " + describe(move.getCard()), 60);
+                } else if (move.getCard() != CardCode.NONE) {
+                    showMessage(mover.getName() + " drew a card", 60);
+                } else {
+                    showMessage("No cards left to draw!", 60);
+                }
+                if (engine.isGameOver()) {
+                    // Checks the recorded winner
+                    replay.playToEnd();
+                    finishReplay(null);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            e.printStackTrace();
+            finishReplay("Replay failed: " + e.getMessage());
+        }
+
+        if (engine.isGameOver()) {
+            announceWinner();
+        } else {
+            onTurnChanged(mover);
+        }
+        markDirty();
+    }
+
+    private void finishReplay(String text) {
+        replayFinished = true;
+        if (text != null) {
+            showMessage(text, 300);
+        }
+        try {
+            replay.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void startComputerTurn() {
+        // The worker gets its own copy so the live game is only touched by the loop thread
+        GameEngine snapshot = engine.copy(new SplittableRandom());
+        computerDecision = COMPUTER_EXECUTOR.submit(() -> decide(snapshot));
+        computerThinkTimer = COMPUTER_THINK_TICKS;
+    }
+
+    private int decide(GameEngine snapshot) {
+        ComputerDecisionEvent event = new ComputerDecisionEvent();
+        event.begin();
+        int choice = computerStrategy.chooseCard(snapshot);
+        event.end();
+        if (event.shouldCommit()) {
+            event.strategy = computerStrategy.getClass().getSimpleName();
+            event.candidates = snapshot.getCurrentPlayer().countPlayableCards(snapshot.getTopCard());
+            event.choice = choice;
+            event.iterations = computerStrategy instanceof MctsStrategy mcts ? mcts.getLastIterations() : 0;
+            event.commit();
+        }
+        return choice;
+    }
+
+    private int takeComputerDecision() {
+        try {
+            return computerDecision.get();
+        } catch (InterruptedException | ExecutionException e) {
+            e.printStackTrace();
+            return -1; // Fall back to drawing a card
+        } finally {
+            computerDecision = null;
+        }
+    }
+
+    private void handleComputerTurn(int playIndex) {
+        if (engine.isGameOver()) return; // Safety check
+
+        Player computer = getCurrentPlayer();
+        if (!computer.isComputer()) return; // Another safety check
+
+        // If we found a card to play, play it
+        if (playIndex != -1) {
+            int playedCard = playCard(computer, playIndex);
+            showMessage(computer.getName() + " played " + describe(playedCard), 60);
+        } else {
+            // If no playable card, draw a card
+            int drawnCard = drawCard(computer);
+            if (drawnCard != CardCode.NONE) {
+                showMessage(computer.getName() + " drew a card", 60);
+                
+                // The engine keeps the turn with us if the drawn card can be played
+                if (getCurrentPlayer() == computer) {
+                    int playedCard = playCard(computer, computer.handSize() - 1);
+                    showMessage(computer.getName() + " drew and played " + describe(playedCard), 60);
+                } else {
+                    onTurnChanged(computer);
+                }
+            } else {
+                showMessage("No cards left to draw!", 60);
+                onTurnChanged(computer);
+            }
+        }
+
+        updateCardBounds();
+        if (engine.isGameOver()) {
+            announceWinner();
+        }
+        markDirty();
+    }
+
+    /**
+     * Plays a card of the current player, recording a JFR event for it.
+     */
+    private int playCard(Player player, int handIndex) {
+        int played = engine.playCard(handIndex);
+        if (played != CardCode.NONE) {
+            CardPlayedEvent event = new CardPlayedEvent();
+            if (event.shouldCommit()) {
+                event.player = player.getName();
+                event.card = CardCode.toString(played);
+                event.computer = player.isComputer();
+                event.handSize = player.handSize();
+                event.commit();
+            }
+        }
+        return played;
+    }
+
+    /**
+     * Draws a card for the current player, recording a JFR event for it.
+     */
+    private int drawCard(Player player) {
+        int drawn = engine.drawCard();
+        CardDrawnEvent event = new CardDrawnEvent();
+        if (event.shouldCommit()) {
+            event.player = player.getName();
+            event.card = CardCode.toString(drawn);
+            event.computer = player.isComputer();
+            event.playable = CardCode.matches(drawn, engine.getTopCard());
+            event.deckSize = engine.remainingCards();
+            event.commit();
+        }
+        return drawn;
+    }
+
+    private void announceWinner() {
+        Player winner = engine.getWinner();
+        Player loser = engine.getLoser();
+        showMessage(winner.getName() + " wins! " +
+                (loser != null ? loser.getName() + " gets punished!" : ""), 300);
+    }
+
+    private void showMessage(String text, int ticks) {
+        message = text;
+        messageTimer = ticks;
+        markDirty(MESSAGE_AREA);
+    }
+
+    private String describe(int card) {
+        return CardCode.color(card) + (CardCode.isSpecial(card) ? " special card" : " " + CardCode.value(card));
+    }
+
+    @Override
+    protected boolean usesDirtyRegions() {
+        // Moves repaint everything; hovers, messages and the outcome animation only their area
+        return true;
+    }
+
+    @Override
+    protected void publishFrame() {
+        PlayFrame frame = frames.getWriteFrame();
+        frame.gameOver = engine.isGameOver();
+        frame.topCard = engine.getTopCard();
+        frame.currentPlayer = engine.getCurrentPlayerIndex();
+        frame.deckCount = engine.remainingCards();
+
+        frame.setPlayerCount(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            frame.names[i] = p.getName();
+            frame.computers[i] = p.isComputer();
+            frame.handSizes[i] = p.handSize();
+        }
+
+        // Only a human player's own hand is shown
+        Player currentPlayer = getCurrentPlayer();
+        int shown = currentPlayer.isComputer() ? 0 : Math.min(currentPlayer.handSize(), cardBounds.length);
+        frame.setHandCount(shown);
+        for (int i = 0; i < shown; i++) {
+            frame.hand[i] = currentPlayer.cardAt(i);
+        }
+        frame.cardBounds = cardBounds;
+
+        frame.message = messageTimer > 0 ? message : null;
+        frame.drawText = drawButton.getText();
+        frame.drawHovered = drawButton.isHovered();
+        frame.drawPressed = drawButton.isPressed();
+        frame.backText = backToMenuButton.getText();
+        frame.backHovered = backToMenuButton.isHovered();
+        frame.backPressed = backToMenuButton.isPressed();
+
+        Player winner = engine.getWinner();
+        Player loser = engine.getLoser();
+        frame.winnerName = winner != null ? winner.getName() : null;
+        frame.loserName = loser != null ? loser.getName() : null;
+        frame.outcomeImage = showingOutcome ? outcomeImage : null;
+
+        frames.publish();
+    }
+
+    /**
+     * Draws the last published frame; runs on the render thread, so nothing
+     * here may read the live game.
+     */
+    @Override
+    public void render(Graphics g) {
+        PlayFrame frame = frames.getReadFrame();
+
+        // Draw background
+        g.setColor(Theme.BACKGROUND);
+        g.fillRect(0, 0, 800, 600);
+
+        if (frame.gameOver) {
+            // Draw game over screen
+            g.setFont(Theme.TITLE_FONT);
+            FontMetrics fm = g.getFontMetrics();
+            String gameOverText = "Game Over!";
+            int textX = (800 - fm.stringWidth(gameOverText)) / 2;
+
+            // Draw text shadow
+            g.setColor(Theme.SHADOW);
+            g.drawString(gameOverText, textX + 2, 150 + 2);
+
+            // Draw main text
+            g.setColor(Color.WHITE);
+            g.drawString(gameOverText, textX, 150);
+
+            // Draw winner announcement
+            g.setFont(Theme.SUBHEADING_FONT);
+            fm = g.getFontMetrics();
+            String winnerText = frame.winnerName + " Wins!";
+            textX = (800 - fm.stringWidth(winnerText)) / 2;
+            g.drawString(winnerText, textX, 200);
+
+            // Draw final scores
+            g.setFont(Theme.SCORE_FONT);
+            int scoreY = 240;
+            for (int i = 0; i < frame.playerCount; i++) {
+                String scoreText = frame.names[i] + ": " + (7 - frame.handSizes[i]) + " points";
+                fm = g.getFontMetrics();
+                textX = (800 - fm.stringWidth(scoreText)) / 2;
+                g.drawString(scoreText, textX, scoreY);
+                scoreY += 30;
+            }
+
+            // If there's a loser, show the punishment animation
+            if (frame.loserName != null && frame.outcomeImage != null) {
+                g.setFont(Theme.LARGE_FONT);
+                String punishmentText = frame.loserName + "'s Punishment:";
+                fm = g.getFontMetrics();
+                textX = (800 - fm.stringWidth(punishmentText)) / 2;
+                g.drawString(punishmentText, textX, 320);
+
+                // Draw the outcome animation frame
+                BufferedImage currentFrame = frame.outcomeImage;
+                int imgWidth = Math.min(currentFrame.getWidth(), 300);
+                int imgHeight = Math.min(currentFrame.getHeight(), 200);
+                int imgX = (800 - imgWidth) / 2;
+                g.drawImage(currentFrame, imgX, 340, imgWidth, imgHeight, null);
+            }
+
+            // Draw back to menu button
+            backToMenuButton.render(g, backToMenuBounds.x, backToMenuBounds.y, backToMenuBounds.width, backToMenuBounds.height,
+                    frame.backText, frame.backHovered, frame.backPressed);
+            return;
+        }
+
+        // Draw deck
+        g.setColor(Theme.PANEL);
+        g.fillRoundRect(650, 200, 80, 120, 10, 10);
+
+        // Draw top card
+        Card topCard = Card.faceUpView(frame.topCard);
+        if (topCard != null) {
+            CardRenderer.render(g, topCard, 550, 200, 80, 120);
+        }
+
+        // Draw current player indicator
+        g.setFont(Theme.LARGE_FONT);
+        g.setColor(Color.YELLOW);
+        String turnText = frame.names[frame.currentPlayer] + "'s Turn";
+        g.drawString(turnText, 20, 50);
+
+        // Draw all players' hands
+        int playerInfoX = 20;
+        int playerInfoY = 80;
+        int playerInfoSpacing = 30;
+
+        for (int i = 0; i < frame.playerCount; i++) {
+            g.setFont(Theme.LABEL_FONT);
+
+            // Highlight current player
+            if (i == frame.currentPlayer) {
+                g.setColor(Theme.CURRENT_PLAYER);
+                g.fillRect(playerInfoX - 5, playerInfoY - 20, 200, 25);
+            }
+
+            g.setColor(Color.WHITE);
+            g.drawString(frame.names[i] + "'s Hand: " + frame.handSizes[i] + " cards", playerInfoX, playerInfoY);
+
+            // If this is not the current player or is a computer, draw cards face down
+            if (i != frame.currentPlayer || frame.computers[i]) {
+                int cardWidth = 40;
+                int cardHeight = 60;
+                int cardSpacing = 10;
+                int startX = playerInfoX;
+                int y = playerInfoY + 10;
+
+                for (int j = 0; j < frame.handSizes[i]; j++) {
+                    // Draw face down card
+                    g.setColor(Theme.PANEL);
+                    g.fillRoundRect(startX + j * cardSpacing, y, cardWidth, cardHeight, 10, 10);
+                    g.setColor(Color.WHITE);
+                    g.drawRoundRect(startX + j * cardSpacing, y, cardWidth, cardHeight, 10, 10);
+                }
+            }
+
+            playerInfoY += playerInfoSpacing + 70; // Move to next player position
+        }
+
+        // Draw current player's hand (if human)
+        if (!frame.computers[frame.currentPlayer]) {
+            g.setFont(Theme.LABEL_FONT);
+            g.setColor(Color.WHITE);
+            g.drawString("Your Hand:", 20, 380);
+
+            Rectangle[] bounds = frame.cardBounds;
+            for (int i = 0; i < frame.handCount && i < bounds.length; i++) {
+                // Hand views are always face up, the player can see their own cards
+                Card card = Card.faceUpView(frame.hand[i]);
+                CardRenderer.render(g, card, bounds[i].x, bounds[i].y, bounds[i].width, bounds[i].height);
+            }
+        }
+
+        // Draw UI elements
+        drawButton.render(g, drawBounds.x, drawBounds.y, drawBounds.width, drawBounds.height,
+                frame.drawText, frame.drawHovered, frame.drawPressed);
+        backToMenuButton.render(g, backToMenuBounds.x, backToMenuBounds.y, backToMenuBounds.width, backToMenuBounds.height,
+                frame.backText, frame.backHovered, frame.backPressed);
+
+        // Draw message
+        if (frame.message != null) {
+            g.setColor(Color.WHITE);
+            g.setFont(Theme.MESSAGE_FONT);
+            FontMetrics fm = g.getFontMetrics();
+            g.drawString(frame.message, (800 - fm.stringWidth(frame.message)) / 2, 300);
+        }
+
+        // Draw deck count
+        g.setColor(Color.WHITE);
+        g.setFont(Theme.TEXT_FONT);
+        g.drawString("Deck: " + frame.deckCount, 650, 180);
+    }
+
+    @Override
+    public void handleMouseEvent(MouseEvent e) {
+        Point mouse = e.getPoint();
+
+        if (engine.isGameOver() || replay != null) {
+            // Only the menu button works once the game is over or while watching a replay
+            if (e.getID() == MouseEvent.MOUSE_MOVED) {
+                if (backToMenuButton.setHovered(backToMenuBounds.contains(mouse))) markDirty(backToMenuBounds);
+                return;
+            }
+
+            if (e.getID() == MouseEvent.MOUSE_PRESSED) {
+                if (backToMenuBounds.contains(mouse)) {
+                    if (backToMenuButton.setPressed(true)) markDirty(backToMenuBounds);
+                }
+                return;
+            }
+
+            if (e.getID() == MouseEvent.MOUSE_RELEASED || e.getID() == MouseEvent.MOUSE_CLICKED) {
+                if (backToMenuBounds.contains(mouse)) {
+                    game.setState(new MenuState(game));
+                }
+                return;
+            }
+            return;
+        }
+
+        // Only handle player interactions during their turn and if current player is human
+        Player currentPlayer = getCurrentPlayer();
+        if (currentPlayer.isComputer()) return;
+
+        int hit = hitGrid.hitTest(mouse.x, mouse.y);
+        if (e.getID() == MouseEvent.MOUSE_MOVED) {
+            // Cards have no hover effect, only the buttons do
+            int button = hit < FIRST_CARD ? hit : -1;
+            if (button != hoveredButton) {
+                setHovered(hoveredButton, false);
+                setHovered(button, true);
+                hoveredButton = button;
+            }
+            return;
+        }
+
+        if (e.getID() == MouseEvent.MOUSE_PRESSED) {
+            if (drawBounds.contains(mouse)) {
+                if (drawButton.setPressed(true)) markDirty(drawBounds);
+            } else if (backToMenuBounds.contains(mouse)) {
+                if (backToMenuButton.setPressed(true)) markDirty(backToMenuBounds);
+            }
+            return;
+        }
+
+        if (e.getID() == MouseEvent.MOUSE_RELEASED || e.getID() == MouseEvent.MOUSE_CLICKED) {
+            // Reset pressed states
+            if (drawButton.setPressed(false)) markDirty(drawBounds);
+            if (backToMenuButton.setPressed(false)) markDirty(backToMenuBounds);
+
+            if (backToMenuBounds.contains(mouse)) {
+                game.setState(new MenuState(game));
+                return;
+            }
+
+            if (drawBounds.contains(mouse)) {
+                int drawnCard = drawCard(currentPlayer);
+                if (drawnCard != CardCode.NONE) {
+                    // The engine only ends the turn if the drawn card can't be played
+                    if (getCurrentPlayer() == currentPlayer) {
+                        showMessage(currentPlayer.getName() + " drew a card - Card can be played!", 60);
+                        updateCardBounds();
+                    } else {
+                        showMessage(currentPlayer.getName() + " drew a card", 60);
+                        onTurnChanged(currentPlayer);
+                    }
+                } else {
+                    showMessage("No cards left to draw!", 60);
+                    onTurnChanged(currentPlayer);
+                }
+                markDirty();
+                return;
+            }
+
+            // Handle card clicks
+            int card = hit - FIRST_CARD;
+            if (card >= 0 && card < currentPlayer.handSize()) {
+                int played = playCard(currentPlayer, card);
+                if (played != CardCode.NONE) {
+                    updateCardBounds();
+                    markDirty();
+                    showMessage(currentPlayer.getName() + " played " + describe(played), 60);
+                    if (engine.isGameOver()) {
+                        announceWinner();
+                    }
+                } else {
+                    showMessage("Card doesn't match! Match the color or number.", 60);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onEnter() {
+        // Reset button states
+        drawButton.setHovered(false);
+        drawButton.setPressed(false);
+        if (backToMenuButton != null) {
+            backToMenuButton.setHovered(false);
+            backToMenuButton.setPressed(false);
+        }
+        hoveredButton = -1;
+        
+        // Load outcome images and render them in the background while the game is played
+        GameOutcome.loadOutcomeImages();
+        GameOutcome.startPrewarm();
+    }
+    
+    @Override
+    public void onExit() {
+        // Stop thinking about a game that is no longer shown
+        if (computerDecision != null) {
+            computerDecision.cancel(true);
+            computerDecision = null;
+        }
+        GameOutcome.cancelPrewarm();
+        stopRecording();
+        if (replay != null && !replayFinished) {
+            finishReplay(null);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.cardgame.controller.states;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * Everything the player selection screen draws, copied at the end of a
+ * tick. Like {@link PlayFrame}, one of three pooled frames is filled on the
+ * game thread and handed to the render thread through a
+ * {@link com.cardgame.view.TripleBuffer}. The arrays only grow, so refilling
+ * a frame doesn't allocate.
+ */
+final class PlayerSelectionFrame {
+    static final int BUTTON_COUNT = 4;
+
+    // The name fields; the game thread replaces their bounds rather than changing them, so they are shared
+    int playerCount;
+    String[] names = new String[0];
+    Rectangle[] nameBounds = new Rectangle[0];
+    Rectangle[] removeBounds = new Rectangle[0];
+
+    int editingIndex = -1; // the field being typed in, or -1
+    String input = "";
+
+    // The buttons move as players are added, so their bounds are copied
+    final Rectangle[] buttonBounds = new Rectangle[BUTTON_COUNT];
+    final String[] buttonTexts = new String[BUTTON_COUNT];
+    final boolean[] buttonHovered = new boolean[BUTTON_COUNT];
+    final boolean[] buttonPressed = new boolean[BUTTON_COUNT];
+
+    PlayerSelectionFrame() {
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            buttonBounds[i] = new Rectangle();
+        }
+    }
+
+    void setPlayerCount(int count) {
+        playerCount = count;
+        if (names.length < count) {
+            names = Arrays.copyOf(names, count);
+            nameBounds = Arrays.copyOf(nameBounds, count);
+            removeBounds = Arrays.copyOf(removeBounds, count);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.cardgame.controller.states;
 
 import com.cardgame.Game;
+import com.cardgame.model.ai.StrategyType;
 import com.cardgame.model.player.HumanPlayer;
 import com.cardgame.model.player.Player;
 import com.cardgame.model.player.PlayerManager;
+import com.cardgame.view.Theme;
+import com.cardgame.view.TripleBuffer;
+import com.cardgame.view.components.HitGrid;
 import com.cardgame.view.components.ModernButton;
 
 import javax.swing.*;
@@ -23,6 +27,9 @@ public class PlayerSelectionState extends GameState {
     private List<String> playerNames;
     private List<Rectangle> playerNameBounds;
     private List<Rectangle> removePlayerBounds;
+
+    // What the screen shows, published for the render thread after every tick
+    private final TripleBuffer<PlayerSelectionFrame> frames = new TripleBuffer<>(PlayerSelectionFrame::new);
     
     private ModernButton addPlayerButton;
     private Rectangle addPlayerBounds;
@@ -33,6 +40,16 @@ public class PlayerSelectionState extends GameState {
     private ModernButton backButton;
     private Rectangle backBounds;
     
+    private ModernButton computerTypeButton;
+    private Rectangle computerTypeBounds;
+    private StrategyType computerType;
+
+    // Buttons by hit grid id, the grid is rebuilt whenever the buttons move
+    private ModernButton[] buttons;
+    private Rectangle[] buttonBounds;
+    private final HitGrid hitGrid = new HitGrid(800, 600, 50);
+    private int hoveredButton = -1;
+    
     private int selectedPlayerIndex;
     private String currentInput;
     private boolean isInputActive;
@@ -51,6 +68,7 @@ public class PlayerSelectionState extends GameState {
         selectedPlayerIndex = -1;
         currentInput = "";
         isInputActive = false;
+        computerType = StrategyType.SIMPLE;
         
         initializeButtons();
         
@@ -59,6 +77,7 @@ public class PlayerSelectionState extends GameState {
         playerNames.add("Player 2");
         playerNames.add("Player 3");
         updatePlayerBounds();
+        publishFrame();
     }
     
     /**
@@ -77,6 +96,16 @@ public class PlayerSelectionState extends GameState {
         
         backButton = new ModernButton("Back");
         backBounds = new Rectangle(centerX, 490, buttonWidth, buttonHeight);
+        
+        computerTypeButton = new ModernButton(computerTypeLabel());
+        computerTypeBounds = new Rectangle(600, 20, 180, 40);
+
+        buttons = new ModernButton[] {addPlayerButton, startGameButton, backButton, computerTypeButton};
+        buttonBounds = new Rectangle[] {addPlayerBounds, startGameBounds, backBounds, computerTypeBounds};
+    }
+    
+    private String computerTypeLabel() {
+        return "Computer: " + computerType.getDisplayName();
     }
     
     /**
@@ -107,6 +136,20 @@ public class PlayerSelectionState extends GameState {
         
         // Disable add player button if max players reached
         addPlayerButton.setEnabled(playerNames.size() < MAX_PLAYERS);
+
+        // The pointer is found again with its next move
+        setHovered(hoveredButton, false);
+        hoveredButton = -1;
+        hitGrid.clear();
+        for (int i = 0; i < buttons.length; i++) {
+            hitGrid.add(i, buttonBounds[i]);
+        }
+    }
+
+    private void setHovered(int button, boolean hovered) {
+        if (button >= 0) {
+            buttons[button].setHovered(hovered && buttons[button].isEnabled());
+        }
     }
     
     /**
@@ -144,7 +187,7 @@ public class PlayerSelectionState extends GameState {
     private void startGame() {
         if (playerNames.size() >= 1) {
             // Start the game with the player names and include a computer player
-            game.setState(new PlayState(game, playerNames, true));
+            game.setState(new PlayState(game, playerNames, true, computerType));
         }
     }
     
@@ -155,6 +198,31 @@ public class PlayerSelectionState extends GameState {
         // No continuous updates needed
     }
     
+    @Override
+    protected void publishFrame() {
+        PlayerSelectionFrame frame = frames.getWriteFrame();
+        int count = playerNames.size();
+        frame.setPlayerCount(count);
+        for (int i = 0; i < count; i++) {
+            frame.names[i] = playerNames.get(i);
+            frame.nameBounds[i] = playerNameBounds.get(i);
+            frame.removeBounds[i] = removePlayerBounds.get(i);
+        }
+        frame.editingIndex = isInputActive ? selectedPlayerIndex : -1;
+        frame.input = currentInput;
+        for (int i = 0; i < buttons.length; i++) {
+            frame.buttonBounds[i].setBounds(buttonBounds[i]);
+            frame.buttonTexts[i] = buttons[i].getText();
+            frame.buttonHovered[i] = buttons[i].isHovered();
+            frame.buttonPressed[i] = buttons[i].isPressed();
+        }
+        frames.publish();
+    }
+
+    /**
+     * Draws the last published frame; nothing here may read the fields the
+     * game thread changes.
+     */
     @Override
     public void render(Graphics g) {
         // Draw background - solid dark color like in the image
@@ -162,11 +230,11 @@ public class PlayerSelectionState extends GameState {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Dark background (almost black)
-        g2d.setColor(new Color(25, 26, 31));
+        g2d.setColor(Theme.SELECTION_BACKGROUND);
         g2d.fillRect(0, 0, 800, 600);
         
         // Draw title
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(Theme.HEADING_FONT);
         g.setColor(Color.WHITE);
         String title = "Select Players";
         FontMetrics fm = g.getFontMetrics();
@@ -174,43 +242,46 @@ public class PlayerSelectionState extends GameState {
         g.drawString(title, titleX, 80);
         
         // Draw player name fields
-        for (int i = 0; i < playerNames.size(); i++) {
-            Rectangle bounds = playerNameBounds.get(i);
+        PlayerSelectionFrame frame = frames.getReadFrame();
+        for (int i = 0; i < frame.playerCount; i++) {
+            Rectangle bounds = frame.nameBounds[i];
             
             // Draw field background (dark gray)
-            g2d.setColor(new Color(45, 48, 56));
+            g2d.setColor(Theme.FIELD);
             g2d.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 10, 10);
             
             // Draw field border
-            g2d.setColor(new Color(60, 65, 75));
-            g2d.setStroke(new BasicStroke(1.5f));
+            g2d.setColor(Theme.FIELD_BORDER);
+            g2d.setStroke(Theme.FIELD_STROKE);
             g2d.drawRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 10, 10);
             
             // Draw player name or input
             g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.PLAIN, 18));
-            String text = (i == selectedPlayerIndex && isInputActive) ? currentInput + (System.currentTimeMillis() % 1000 > 500 ? "|" : "") : playerNames.get(i);
+            g.setFont(Theme.TEXT_FONT);
+            String text = i == frame.editingIndex ? frame.input + (System.currentTimeMillis() % 1000 > 500 ? "|" : "") : frame.names[i];
             g.drawString(text, bounds.x + 15, bounds.y + 28);
             
             // Draw remove button (X) - red circle with X
-            if (playerNames.size() > 1) {
-                Rectangle removeBounds = removePlayerBounds.get(i);
+            if (frame.playerCount > 1) {
+                Rectangle removeBounds = frame.removeBounds[i];
                 
                 // Red circle
-                g2d.setColor(new Color(220, 60, 60));
+                g2d.setColor(Theme.REMOVE);
                 g2d.fillOval(removeBounds.x, removeBounds.y, removeBounds.width, removeBounds.height);
                 
                 // X symbol
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.BOLD, 18));
+                g.setFont(Theme.LABEL_FONT);
                 g.drawString("X", removeBounds.x + 9, removeBounds.y + 22);
             }
         }
         
-        // Draw buttons directly using their render method
-        addPlayerButton.render(g, addPlayerBounds.x, addPlayerBounds.y, addPlayerBounds.width, addPlayerBounds.height);
-        startGameButton.render(g, startGameBounds.x, startGameBounds.y, startGameBounds.width, startGameBounds.height);
-        backButton.render(g, backBounds.x, backBounds.y, backBounds.width, backBounds.height);
+        // Draw buttons as they were when the frame was published
+        for (int i = 0; i < buttons.length; i++) {
+            Rectangle bounds = frame.buttonBounds[i];
+            buttons[i].render(g, bounds.x, bounds.y, bounds.width, bounds.height,
+                    frame.buttonTexts[i], frame.buttonHovered[i], frame.buttonPressed[i]);
+        }
     }
     
     @Override
@@ -219,9 +290,12 @@ public class PlayerSelectionState extends GameState {
         
         // Handle hover effects
         if (e.getID() == MouseEvent.MOUSE_MOVED) {
-            addPlayerButton.setHovered(addPlayerBounds.contains(mouse) && addPlayerButton.isEnabled());
-            startGameButton.setHovered(startGameBounds.contains(mouse));
-            backButton.setHovered(backBounds.contains(mouse));
+            int hit = hitGrid.hitTest(mouse.x, mouse.y);
+            if (hit != hoveredButton) {
+                setHovered(hoveredButton, false);
+                setHovered(hit, true);
+                hoveredButton = hit;
+            }
             return;
         }
         
@@ -233,6 +307,8 @@ public class PlayerSelectionState extends GameState {
                 startGameButton.setPressed(true);
             } else if (backBounds.contains(mouse)) {
                 backButton.setPressed(true);
+            } else if (computerTypeBounds.contains(mouse)) {
+                computerTypeButton.setPressed(true);
             }
             
             // Check for player name field clicks
@@ -265,6 +341,7 @@ public class PlayerSelectionState extends GameState {
             addPlayerButton.setPressed(false);
             startGameButton.setPressed(false);
             backButton.setPressed(false);
+            computerTypeButton.setPressed(false);
             
             // Handle button actions
             if (addPlayerBounds.contains(mouse) && addPlayerButton.isEnabled()) {
@@ -273,6 +350,10 @@ public class PlayerSelectionState extends GameState {
                 startGame();
             } else if (backBounds.contains(mouse)) {
                 game.setState(new MenuState(game));
+            } else if (computerTypeBounds.contains(mouse) && e.getID() == MouseEvent.MOUSE_RELEASED) {
+                // Cycle through the available computer strategies once per click
+                computerType = computerType.next();
+                computerTypeButton.setText(computerTypeLabel());
             }
         }
     }
@@ -322,6 +403,7 @@ public class PlayerSelectionState extends GameState {
         startGameButton.setPressed(false);
         backButton.setHovered(false);
         backButton.setPressed(false);
+        hoveredButton = -1;
     }
     
     @Override
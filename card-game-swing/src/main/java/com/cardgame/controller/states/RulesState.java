@@ -1,21 +1,34 @@
 package com.cardgame.controller.states;
 
 import com.cardgame.Game;
+import com.cardgame.model.card.Card.CardColor;
+import com.cardgame.view.CardPalette;
+import com.cardgame.view.Theme;
+import com.cardgame.view.components.HitGrid;
 import com.cardgame.view.components.ModernButton;
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 
 public class RulesState extends GameState {
-    private ModernButton backButton;
+    // The buttons are cleared on the event thread after leaving the screen
+    private volatile ModernButton backButton;
     private Rectangle backBounds;
-    private ModernButton scrollUpButton;
-    private ModernButton scrollDownButton;
+    private volatile ModernButton scrollUpButton;
+    private volatile ModernButton scrollDownButton;
     private Rectangle scrollUpBounds;
     private Rectangle scrollDownBounds;
-    private int scrollOffset = 0;
+    // Scrolled on the game thread, drawn on the render thread; only ever set to a final value
+    private volatile int scrollOffset = 0;
     private static final int SCROLL_SPEED = 20;
     private static final int MAX_SCROLL = 400; // Will be adjusted based on content
+
+    // Hit grid ids of the buttons
+    private static final int BACK = 0;
+    private static final int SCROLL_UP = 1;
+    private static final int SCROLL_DOWN = 2;
+    private final HitGrid hitGrid = new HitGrid(800, 600, 50);
+    private int hoveredButton = -1;
     private final String[] rules = {
         "Card Game Rules",
         "",
@@ -67,6 +80,36 @@ public class RulesState extends GameState {
         scrollDownButton = new ModernButton("▼");
         scrollUpBounds = new Rectangle(740, 20, 30, 30);
         scrollDownBounds = new Rectangle(740, 520, 30, 30);
+
+        hitGrid.clear();
+        hitGrid.add(BACK, backBounds);
+        hitGrid.add(SCROLL_UP, scrollUpBounds);
+        hitGrid.add(SCROLL_DOWN, scrollDownBounds);
+        hoveredButton = -1;
+    }
+
+    private void setHovered(int id, boolean hovered) {
+        ModernButton button;
+        Rectangle bounds;
+        switch (id) {
+            case BACK:
+                button = backButton;
+                bounds = backBounds;
+                break;
+            case SCROLL_UP:
+                button = scrollUpButton;
+                bounds = scrollUpBounds;
+                break;
+            case SCROLL_DOWN:
+                button = scrollDownButton;
+                bounds = scrollDownBounds;
+                break;
+            default:
+                return;
+        }
+        if (button != null && button.setHovered(hovered)) {
+            markDirty(bounds);
+        }
     }
 
     @Override
@@ -74,25 +117,31 @@ public class RulesState extends GameState {
         // No continuous updates needed for rules
     }
 
+    @Override
+    protected boolean usesDirtyRegions() {
+        // Only the buttons and the scrolled text change
+        return true;
+    }
+
+    private void markScrolled() {
+        markDirty(30, 20, 740, 560);
+    }
+
     @Override
     public void render(Graphics g) {
         // Draw background with gradient
         Graphics2D g2d = (Graphics2D) g;
-        GradientPaint gradient = new GradientPaint(
-            0, 0, new Color(40, 44, 52),
-            0, 600, new Color(24, 26, 31)
-        );
-        g2d.setPaint(gradient);
+        g2d.setPaint(Theme.BACKGROUND_GRADIENT);
         g2d.fillRect(0, 0, 800, 600);
 
         // Create clipping region for scrolling
         Shape oldClip = g2d.getClip();
-        g2d.setClip(30, 20, 740, 560);
+        g2d.clipRect(30, 20, 740, 560);
 
         // Draw semi-transparent overlay for better readability
-        g2d.setColor(new Color(0, 0, 0, 128));
+        g2d.setColor(Theme.SHADOW_DARK);
         g2d.fillRect(30, 20, 740, 560);
-        g2d.setColor(new Color(255, 255, 255, 30));
+        g2d.setColor(Theme.OUTLINE_FAINT);
         g2d.drawRect(30, 20, 740, 560);
 
         // Enable antialiasing for smoother text
@@ -100,13 +149,13 @@ public class RulesState extends GameState {
 
         // Draw title with shadow (fixed position, outside scroll area)
         g2d.setClip(oldClip);
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(Theme.HEADING_FONT);
         String title = rules[0];
         FontMetrics fm = g.getFontMetrics();
         int titleX = (800 - fm.stringWidth(title)) / 2;
         
         // Draw shadow
-        g.setColor(new Color(0, 0, 0, 128));
+        g.setColor(Theme.SHADOW_DARK);
         g.drawString(title, titleX + 2, 62);
         
         // Draw title
@@ -114,10 +163,10 @@ public class RulesState extends GameState {
         g.drawString(title, titleX, 60);
 
         // Restore clip for scrolling content
-        g2d.setClip(30, 20, 740, 560);
+        g2d.clipRect(30, 20, 740, 560);
 
         // Draw rules text with different colors for special cards
-        g.setFont(new Font("Arial", Font.PLAIN, 16));
+        g.setFont(Theme.BODY_FONT);
         int y = 100 - scrollOffset; // Apply scroll offset
         int leftMargin = 50;
         
@@ -135,36 +184,36 @@ public class RulesState extends GameState {
             if (y >= 20 && y <= 580) {
                 // Color special card rules and add visual emphasis
                 if (line.contains("RED")) {
-                    g.setColor(new Color(220, 53, 69));
-                    g2d.setFont(g.getFont().deriveFont(Font.BOLD));
+                    g.setColor(CardPalette.colorOf(CardColor.RED));
+                    g2d.setFont(Theme.BODY_BOLD_FONT);
                 } else if (line.contains("BLUE")) {
-                    g.setColor(new Color(0, 123, 255));
-                    g2d.setFont(g.getFont().deriveFont(Font.BOLD));
+                    g.setColor(CardPalette.colorOf(CardColor.BLUE));
+                    g2d.setFont(Theme.BODY_BOLD_FONT);
                 } else if (line.contains("GREEN")) {
-                    g.setColor(new Color(40, 167, 69));
-                    g2d.setFont(g.getFont().deriveFont(Font.BOLD));
+                    g.setColor(CardPalette.colorOf(CardColor.GREEN));
+                    g2d.setFont(Theme.BODY_BOLD_FONT);
                 } else if (line.contains("GOLD")) {
-                    g.setColor(new Color(255, 193, 7));
-                    g2d.setFont(g.getFont().deriveFont(Font.BOLD));
+                    g.setColor(CardPalette.colorOf(CardColor.GOLD));
+                    g2d.setFont(Theme.BODY_BOLD_FONT);
                 } else {
                     g.setColor(Color.WHITE);
-                    g2d.setFont(g.getFont().deriveFont(Font.PLAIN));
+                    g2d.setFont(Theme.BODY_FONT);
                 }
                 
                 // Draw text shadow for better readability
                 if (!line.trim().isEmpty()) {
-                    g.setColor(new Color(0, 0, 0, 100));
+                    g.setColor(Theme.SHADOW);
                     g.drawString(line, leftMargin + 1, y + 1);
                     
                     // Restore color and draw main text
                     if (line.contains("RED")) {
-                        g.setColor(new Color(220, 53, 69));
+                        g.setColor(CardPalette.colorOf(CardColor.RED));
                     } else if (line.contains("BLUE")) {
-                        g.setColor(new Color(0, 123, 255));
+                        g.setColor(CardPalette.colorOf(CardColor.BLUE));
                     } else if (line.contains("GREEN")) {
-                        g.setColor(new Color(40, 167, 69));
+                        g.setColor(CardPalette.colorOf(CardColor.GREEN));
                     } else if (line.contains("GOLD")) {
-                        g.setColor(new Color(255, 193, 7));
+                        g.setColor(CardPalette.colorOf(CardColor.GOLD));
                     } else {
                         g.setColor(Color.WHITE);
                     }
@@ -178,15 +227,18 @@ public class RulesState extends GameState {
         // Restore original clip
         g2d.setClip(oldClip);
 
-        // Draw scroll buttons only if they exist
-        if (scrollUpButton != null && scrollDownButton != null) {
-            scrollUpButton.render(g, scrollUpBounds.x, scrollUpBounds.y, scrollUpBounds.width, scrollUpBounds.height);
-            scrollDownButton.render(g, scrollDownBounds.x, scrollDownBounds.y, scrollDownBounds.width, scrollDownBounds.height);
+        // Draw scroll buttons only if they exist; onExit may clear them meanwhile, so read each once
+        ModernButton scrollUp = scrollUpButton;
+        ModernButton scrollDown = scrollDownButton;
+        if (scrollUp != null && scrollDown != null) {
+            scrollUp.render(g, scrollUpBounds.x, scrollUpBounds.y, scrollUpBounds.width, scrollUpBounds.height);
+            scrollDown.render(g, scrollDownBounds.x, scrollDownBounds.y, scrollDownBounds.width, scrollDownBounds.height);
         }
 
         // Draw back button with shadow effect if it exists
-        if (backButton != null) {
-            backButton.render(g, backBounds.x, backBounds.y, backBounds.width, backBounds.height);
+        ModernButton back = backButton;
+        if (back != null) {
+            back.render(g, backBounds.x, backBounds.y, backBounds.width, backBounds.height);
         }
     }
 
@@ -195,29 +247,34 @@ public class RulesState extends GameState {
         Point mouse = e.getPoint();
 
         if (e.getID() == MouseEvent.MOUSE_MOVED) {
-            if (backButton != null) backButton.setHovered(backBounds.contains(mouse));
-            if (scrollUpButton != null) scrollUpButton.setHovered(scrollUpBounds.contains(mouse));
-            if (scrollDownButton != null) scrollDownButton.setHovered(scrollDownBounds.contains(mouse));
+            int hit = hitGrid.hitTest(mouse.x, mouse.y);
+            if (hit != hoveredButton) {
+                setHovered(hoveredButton, false);
+                setHovered(hit, true);
+                hoveredButton = hit;
+            }
             return;
         }
 
         if (e.getID() == MouseEvent.MOUSE_PRESSED) {
             if (backBounds.contains(mouse)) {
-                if (backButton != null) backButton.setPressed(true);
+                if (backButton != null && backButton.setPressed(true)) markDirty(backBounds);
             } else if (scrollUpButton != null && scrollUpBounds.contains(mouse)) {
                 scrollUpButton.setPressed(true);
                 scrollOffset = Math.max(0, scrollOffset - SCROLL_SPEED);
+                markScrolled();
             } else if (scrollDownButton != null && scrollDownBounds.contains(mouse)) {
                 scrollDownButton.setPressed(true);
                 scrollOffset = Math.min(MAX_SCROLL, scrollOffset + SCROLL_SPEED);
+                markScrolled();
             }
             return;
         }
 
         if (e.getID() == MouseEvent.MOUSE_RELEASED) {
-            if (backButton != null) backButton.setPressed(false);
-            if (scrollUpButton != null) scrollUpButton.setPressed(false);
-            if (scrollDownButton != null) scrollDownButton.setPressed(false);
+            if (backButton != null && backButton.setPressed(false)) markDirty(backBounds);
+            if (scrollUpButton != null && scrollUpButton.setPressed(false)) markDirty(scrollUpBounds);
+            if (scrollDownButton != null && scrollDownButton.setPressed(false)) markDirty(scrollDownBounds);
             
             if (backBounds.contains(mouse)) {
                 // Create the new state before cleaning up the current one
@@ -230,8 +287,9 @@ public class RulesState extends GameState {
         // Handle mouse wheel scrolling
         if (e.getID() == MouseEvent.MOUSE_WHEEL && scrollUpButton != null && scrollDownButton != null) {
             MouseWheelEvent wheelEvent = (MouseWheelEvent) e;
-            scrollOffset += wheelEvent.getWheelRotation() * SCROLL_SPEED;
-            scrollOffset = Math.max(0, Math.min(MAX_SCROLL, scrollOffset));
+            int offset = scrollOffset + wheelEvent.getWheelRotation() * SCROLL_SPEED;
+            scrollOffset = Math.max(0, Math.min(MAX_SCROLL, offset));
+            markScrolled();
         }
     }
 
@@ -0,0 +1,32 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a card drawn from the deck.
+ */
+@Name("com.cardgame.CardDrawn")
+@Label("Card Drawn")
+@Category({"Card Game", "Moves"})
+@Description("A player drew a card")
+public class CardDrawnEvent extends jdk.jfr.Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Card")
+    @Description("The card drawn, or NONE if the deck was empty")
+    public String card;
+
+    @Label("Computer")
+    public boolean computer;
+
+    @Label("Playable")
+    @Description("Whether the drawn card could be played right away")
+    public boolean playable;
+
+    @Label("Cards In Deck")
+    public int deckSize;
+}
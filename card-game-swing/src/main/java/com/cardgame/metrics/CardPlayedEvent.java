@@ -0,0 +1,27 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a card played onto the discard pile.
+ */
+@Name("com.cardgame.CardPlayed")
+@Label("Card Played")
+@Category({"Card Game", "Moves"})
+@Description("A player played a card")
+public class CardPlayedEvent extends jdk.jfr.Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Card")
+    public String card;
+
+    @Label("Computer")
+    public boolean computer;
+
+    @Label("Cards Left")
+    public int handSize;
+}
@@ -0,0 +1,30 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a computer player's decision, recorded on the thread that computed it.
+ */
+@Name("com.cardgame.ComputerDecision")
+@Label("Computer Decision")
+@Category({"Card Game", "Computer Player"})
+@Description("A computer player chose a move")
+public class ComputerDecisionEvent extends jdk.jfr.Event {
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Candidates")
+    @Description("The number of cards that could be played")
+    public int candidates;
+
+    @Label("Choice")
+    @Description("The hand index of the chosen card, or -1 to draw")
+    public int choice;
+
+    @Label("Iterations")
+    @Description("Search iterations, for search-based strategies")
+    public int iterations;
+}
@@ -0,0 +1,190 @@
+package com.cardgame.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.awt.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timing data of the game loop: tick time, render time, render time per
+ * game state and GC pauses, each kept in a {@link LatencyHistogram}.
+ *
+ * The numbers cover a window that starts over after every periodic dump.
+ * They can be shown on screen with {@link #renderOverlay}. Apart from GC
+ * pauses and tick times, everything is recorded and read on the render
+ * thread.
+ */
+public class FrameMetrics {
+    private static final long OVERLAY_REFRESH_NANOS = 500_000_000L;
+
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color OVERLAY_TEXT = new Color(120, 255, 120);
+
+    private final LatencyHistogram tickTimes = new LatencyHistogram(); // guarded by itself, recorded on the game thread
+    private final LatencyHistogram renderTimes = new LatencyHistogram();
+    private final Map<Class<?>, LatencyHistogram> stateRenderTimes = new LinkedHashMap<>();
+    private final LatencyHistogram gcPauses = new LatencyHistogram(); // guarded by itself
+
+    private final long dumpIntervalNanos;
+    private long windowStart = System.nanoTime();
+
+    private volatile boolean overlayVisible; // toggled on the game thread, read on the render thread
+    private boolean overlayShown;
+    private long overlayUpdated;
+    private String[] overlayLines = new String[0];
+
+    /**
+     * @param dumpIntervalSeconds How often to print the numbers and start a new window; 0 never does
+     */
+    public FrameMetrics(int dumpIntervalSeconds) {
+        this.dumpIntervalNanos = dumpIntervalSeconds * 1_000_000_000L;
+        listenForGcPauses();
+    }
+
+    private void listenForGcPauses() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(collector instanceof NotificationEmitter emitter)) continue;
+            emitter.addNotificationListener((notification, handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                // Concurrent collectors report their whole cycle, most of which doesn't stop the game
+                if (info.getGcName().contains("Concurrent")) return;
+                synchronized (gcPauses) {
+                    gcPauses.record(info.getGcInfo().getDuration() * 1_000_000L);
+                }
+            }, null, null);
+        }
+    }
+
+    public void recordTick(long nanos) {
+        synchronized (tickTimes) {
+            tickTimes.record(nanos);
+        }
+    }
+
+    public void recordRender(long nanos) {
+        renderTimes.record(nanos);
+    }
+
+    /**
+     * Records how long a game state took to render.
+     *
+     * @param state The class of the state
+     * @param nanos The render time in nanoseconds
+     */
+    public void recordStateRender(Class<?> state, long nanos) {
+        LatencyHistogram histogram = stateRenderTimes.get(state);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            stateRenderTimes.put(state, histogram);
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Called once per render loop iteration; refreshes the overlay text and prints
+     * the numbers when the dump interval has passed.
+     *
+     * @param framesPerSecond The frames rendered in the last second
+     * @return true if the overlay text changed and needs to be shown
+     */
+    public boolean update(int framesPerSecond) {
+        long now = System.nanoTime();
+        boolean overlayChanged = false;
+        boolean visible = overlayVisible;
+        if (visible != overlayShown) {
+            overlayShown = visible;
+            overlayChanged = true;
+        }
+        if (visible && (overlayChanged || now - overlayUpdated >= OVERLAY_REFRESH_NANOS)) {
+            overlayLines = describe(framesPerSecond);
+            overlayUpdated = now;
+            overlayChanged = true;
+        }
+        if (dumpIntervalNanos > 0 && now - windowStart >= dumpIntervalNanos) {
+            System.out.println("Frame metrics over the last " + (now - windowStart) / 1_000_000_000L + "s:");
+            for (String line : describe(framesPerSecond)) {
+                System.out.println("  " + line);
+            }
+            reset();
+            windowStart = now;
+        }
+        return overlayChanged;
+    }
+
+    private String[] describe(int framesPerSecond) {
+        List<String> lines = new ArrayList<>();
+        lines.add("fps " + framesPerSecond);
+        synchronized (tickTimes) {
+            lines.add(line("tick", tickTimes));
+        }
+        lines.add(line("render", renderTimes));
+        for (Map.Entry<Class<?>, LatencyHistogram> entry : stateRenderTimes.entrySet()) {
+            lines.add(line(entry.getKey().getSimpleName(), entry.getValue()));
+        }
+        synchronized (gcPauses) {
+            lines.add(line("gc pause", gcPauses));
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private static String line(String name, LatencyHistogram histogram) {
+        return String.format("%-20s %s", name, histogram);
+    }
+
+    private void reset() {
+        synchronized (tickTimes) {
+            tickTimes.reset();
+        }
+        renderTimes.reset();
+        for (LatencyHistogram histogram : stateRenderTimes.values()) {
+            histogram.reset();
+        }
+        synchronized (gcPauses) {
+            gcPauses.reset();
+        }
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public void setOverlayVisible(boolean visible) {
+        overlayVisible = visible;
+    }
+
+    /**
+     * Draws p50, p99 and max of every histogram in the top right corner, if the overlay is visible.
+     */
+    public void renderOverlay(Graphics2D g, int screenWidth) {
+        if (!overlayShown || overlayLines.length == 0) return;
+
+        g.setFont(OVERLAY_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        int width = 0;
+        for (String line : overlayLines) {
+            width = Math.max(width, fm.stringWidth(line));
+        }
+        int x = screenWidth - width - 20;
+        int y = 40;
+
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fillRect(x - 6, y - 4, width + 12, overlayLines.length * fm.getHeight() + 8);
+        g.setColor(OVERLAY_TEXT);
+        for (String line : overlayLines) {
+            y += fm.getHeight();
+            g.drawString(line, x, y - fm.getDescent());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.cardgame.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds with fixed, log-linear buckets:
+ * every power of two is split into 32 buckets, so percentiles are accurate
+ * to about 3% of the value. Recording never allocates.
+ *
+ * Not thread safe; each histogram should have a single writer, or its
+ * callers must synchronize.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Longer durations (about 18 minutes) are recorded as this
+    private static final long MAX_TRACKABLE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+    private long sum;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE));
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    private static int indexOf(long value) {
+        // Values below 2 * SUB_BUCKETS get a bucket each; above that each
+        // power of two shares SUB_BUCKETS buckets
+        int magnitude = 63 - Long.numberOfLeadingZeros(value | 1);
+        int shift = Math.max(0, magnitude - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Gets the duration that the given share of recorded durations are at or below.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return The duration in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Adds the durations recorded in another histogram to this one.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        maxValue = 0;
+        sum = 0;
+    }
+
+    /**
+     * Formats p50, p99 and max in milliseconds, e.g. for a log line.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.2fms p99=%.2fms max=%.2fms",
+                totalCount,
+                getValueAtPercentile(50) / 1e6,
+                getValueAtPercentile(99) / 1e6,
+                maxValue / 1e6);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one phase of rendering a frame.
+ */
+@Name("com.cardgame.RenderPhase")
+@Label("Render Phase")
+@Category({"Card Game", "Rendering"})
+@Description("A phase of rendering a frame: scene (the state into the retained layer) or present (the layer to the screen)")
+public class RenderPhaseEvent extends jdk.jfr.Event {
+    public static final String SCENE = "scene";
+    public static final String PRESENT = "present";
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("State")
+    public String state;
+}
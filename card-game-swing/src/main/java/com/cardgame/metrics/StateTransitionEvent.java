@@ -0,0 +1,21 @@
+package com.cardgame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a switch between game states, including their onExit and onEnter.
+ */
+@Name("com.cardgame.StateTransition")
+@Label("State Transition")
+@Category({"Card Game", "States"})
+@Description("The game switched to another screen")
+public class StateTransitionEvent extends jdk.jfr.Event {
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+}
@@ -0,0 +1,26 @@
+package com.cardgame.view;
+
+import com.cardgame.model.card.Card.CardColor;
+
+import java.awt.Color;
+
+/**
+ * The screen colors of the card colors.
+ */
+public final class CardPalette {
+    private static final Color[] COLORS = new Color[CardColor.values().length];
+
+    static {
+        COLORS[CardColor.RED.ordinal()] = new Color(220, 53, 69);
+        COLORS[CardColor.BLUE.ordinal()] = new Color(0, 123, 255);
+        COLORS[CardColor.GREEN.ordinal()] = new Color(40, 167, 69);
+        COLORS[CardColor.GOLD.ordinal()] = new Color(255, 193, 7);
+    }
+
+    private CardPalette() {
+    }
+
+    public static Color colorOf(CardColor color) {
+        return COLORS[color.ordinal()];
+    }
+}
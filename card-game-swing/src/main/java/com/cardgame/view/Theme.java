@@ -0,0 +1,99 @@
+package com.cardgame.view;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Paint;
+import java.awt.Stroke;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The fonts, colors, strokes and paints of the user interface, built once
+ * and shared by every screen so rendering a frame doesn't create any. They
+ * are all immutable, so any thread may use them. The card colors are in
+ * {@link CardPalette}.
+ */
+public final class Theme {
+    private static final int MAX_FONT_SIZE = 128;
+    private static final int FONT_STYLES = 4; // PLAIN, BOLD, ITALIC, BOLD | ITALIC
+
+    // Every font is derived from this one; derived fonts are made on first use
+    private static final Font BASE_FONT = new Font("Arial", Font.PLAIN, 12);
+    private static final AtomicReferenceArray<Font> FONTS =
+            new AtomicReferenceArray<>(FONT_STYLES * (MAX_FONT_SIZE + 1));
+
+    // Backgrounds
+    public static final Color BACKGROUND = new Color(40, 44, 52);
+    public static final Color BACKGROUND_DARK = new Color(24, 26, 31);
+    public static final Color SELECTION_BACKGROUND = new Color(25, 26, 31);
+    public static final Color PANEL = new Color(30, 34, 42);
+    public static final Paint BACKGROUND_GRADIENT = new GradientPaint(0, 0, BACKGROUND, 0, 600, BACKGROUND_DARK);
+
+    // Text and decoration
+    public static final Color TEXT = Color.WHITE;
+    public static final Color TEXT_MUTED = new Color(200, 200, 200);
+    public static final Color SHADOW_LIGHT = new Color(0, 0, 0, 50);
+    public static final Color SHADOW = new Color(0, 0, 0, 100);
+    public static final Color SHADOW_DARK = new Color(0, 0, 0, 128);
+    public static final Color HIGHLIGHT = new Color(255, 255, 255, 50);
+    public static final Color OUTLINE_FAINT = new Color(255, 255, 255, 30);
+    public static final Color CURRENT_PLAYER = new Color(255, 255, 0, 100);
+
+    // Input fields
+    public static final Color FIELD = new Color(45, 48, 56);
+    public static final Color FIELD_BORDER = new Color(60, 65, 75);
+    public static final Color REMOVE = new Color(220, 60, 60);
+
+    // Buttons
+    public static final Color BUTTON = new Color(61, 90, 254);
+    public static final Color BUTTON_HOVER = new Color(82, 107, 254);
+    public static final Color BUTTON_PRESSED = new Color(41, 66, 254);
+    public static final Composite BUTTON_HIGHLIGHT = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.1f);
+
+    // Fonts
+    public static final Font TITLE_FONT = font(Font.BOLD, 48);
+    public static final Font HEADING_FONT = font(Font.BOLD, 36);
+    public static final Font SUBHEADING_FONT = font(Font.BOLD, 32);
+    public static final Font LARGE_FONT = font(Font.BOLD, 24);
+    public static final Font SCORE_FONT = font(Font.PLAIN, 24);
+    public static final Font MESSAGE_FONT = font(Font.BOLD, 20);
+    public static final Font LABEL_FONT = font(Font.BOLD, 18);
+    public static final Font TEXT_FONT = font(Font.PLAIN, 18);
+    public static final Font BODY_FONT = font(Font.PLAIN, 16);
+    public static final Font BODY_BOLD_FONT = font(Font.BOLD, 16);
+    public static final Font SMALL_FONT = font(Font.PLAIN, 12);
+
+    // Strokes
+    public static final Stroke THIN_STROKE = new BasicStroke(1);
+    public static final Stroke FIELD_STROKE = new BasicStroke(1.5f);
+    public static final Stroke MEDIUM_STROKE = new BasicStroke(2);
+    public static final Stroke THICK_STROKE = new BasicStroke(3);
+    public static final Stroke HEAVY_STROKE = new BasicStroke(5);
+
+    private Theme() {
+    }
+
+    /**
+     * Gets the interface font in a style and size, e.g. for sizes that
+     * change while animating. Each combination is only derived once.
+     *
+     * @param style A combination of {@link Font#BOLD} and {@link Font#ITALIC}
+     * @param size The point size, up to 128
+     */
+    public static Font font(int style, int size) {
+        if (style < 0 || style >= FONT_STYLES || size < 1 || size > MAX_FONT_SIZE) {
+            throw new IllegalArgumentException("Unsupported font style " + style + " or size " + size);
+        }
+        int index = style * (MAX_FONT_SIZE + 1) + size;
+        Font font = FONTS.get(index);
+        if (font == null) {
+            // If two threads get here, either font will do
+            font = BASE_FONT.deriveFont(style, (float) size);
+            FONTS.set(index, font);
+        }
+        return font;
+    }
+}
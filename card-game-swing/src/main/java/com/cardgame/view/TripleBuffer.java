@@ -0,0 +1,62 @@
+package com.cardgame.view;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands frames from the game thread to the render thread without
+ * either side waiting. There are three frame objects, reused forever: one
+ * being filled by the writer, one being drawn by the reader, and the most
+ * recently published one in between. Publishing and taking a frame each
+ * swap a slot with the one in between, so the writer never touches a frame
+ * the reader holds and the reader always gets the newest complete frame.
+ *
+ * @param <T> The frame type
+ */
+public final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    // Set while the middle slot holds a frame the reader hasn't taken yet
+    private static final int FRESH = 0b100;
+
+    private final T[] slots;
+    // Index of the middle slot, plus the FRESH bit
+    private final AtomicInteger middle = new AtomicInteger(2);
+    private int writeSlot = 0; // only used by the writer
+    private int readSlot = 1;  // only used by the reader
+
+    /**
+     * @param factory Creates the three frames
+     */
+    @SuppressWarnings("unchecked")
+    public TripleBuffer(Supplier<T> factory) {
+        slots = (T[]) new Object[] {factory.get(), factory.get(), factory.get()};
+    }
+
+    /**
+     * Gets the frame to fill next. It may hold an old frame, so every field
+     * must be written before publishing. Only called by the writer.
+     */
+    public T getWriteFrame() {
+        return slots[writeSlot];
+    }
+
+    /**
+     * Publishes the frame returned by {@link #getWriteFrame()}; the writer
+     * must not touch it afterwards. Only called by the writer.
+     */
+    public void publish() {
+        writeSlot = middle.getAndSet(writeSlot | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the newest published frame, or the frame taken last time if
+     * nothing new was published. The frame stays valid until the next call.
+     * Only called by the reader.
+     */
+    public T getReadFrame() {
+        if ((middle.get() & FRESH) != 0) {
+            readSlot = middle.getAndSet(readSlot) & INDEX_MASK;
+        }
+        return slots[readSlot];
+    }
+}
@@ -3,6 +3,10 @@ package com.cardgame.view.animations;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 
+/**
+ * A card moving across the screen. Not thread-safe: the render thread
+ * advances and draws it.
+ */
 public class CardAnimation {
     private BufferedImage cardImage;
     private float x, y;
@@ -1,17 +1,25 @@
-package com.cardgame.model.game;
+package com.cardgame.view.animations;
+
+import com.cardgame.view.Theme;
 
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages the animated punishments shown when a player loses the game
  */
 public class GameOutcome {
-    private static final Random random = new Random();
+    private static RandomGenerator random = new SplittableRandom();
     private static final int WIDTH = 300;
     private static final int HEIGHT = 200;
 
@@ -25,6 +33,34 @@ public class GameOutcome {
     private static int selectedAnimationIndex = -1;
     private static boolean animationFinalized = false;
 
+    // Frames are deterministic in (animation, frame), so each one is rendered once
+    // and replayed from here. The cache holds the roulette and one punishment,
+    // about 43 MB, unless the heap is too small for that. All eight punishments
+    // would take about 144 MB, so only the one picked for the next game is kept.
+    private static final long MAX_CACHE_BYTES = 48L * 1024 * 1024;
+    private static final int MAX_CACHED_FRAMES = (int) (Math.min(MAX_CACHE_BYTES,
+            Runtime.getRuntime().maxMemory() / 4) / (WIDTH * HEIGHT * 4L));
+    private static final int ROULETTE = -1; // animation key of the roulette frames
+    private static final Map<Long, BufferedImage> frameCache =
+            new LinkedHashMap<>(MAX_CACHED_FRAMES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+                    return size() > MAX_CACHED_FRAMES;
+                }
+            };
+
+    // The punishment the next roulette will land on, picked ahead so it can be pre-rendered
+    private static int nextAnimationIndex = -1;
+
+    // Renders frames ahead of time while the game is played
+    private static final ExecutorService PREWARM_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outcome-prewarm");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private static Future<?> prewarmTask;
+
     // Interface for punishment animations
     private interface PunishmentAnimation {
         BufferedImage renderFrame(int frame);
@@ -51,6 +87,81 @@ public class GameOutcome {
         animations.add(new RelationshipBreakup());
     }
 
+    /**
+     * Replaces the random generator used to pick punishments, e.g. with a
+     * seeded one so the outcome of a game can be reproduced
+     *
+     * @param generator The random generator to use
+     */
+    public static void setRandom(RandomGenerator generator) {
+        random = generator;
+    }
+
+    /**
+     * Picks the punishment for the next outcome and starts rendering its frames,
+     * and those of the roulette, on a low-priority background thread
+     */
+    public static void startPrewarm() {
+        if (animations.isEmpty()) {
+            loadOutcomeImages();
+        }
+        cancelPrewarm();
+
+        nextAnimationIndex = random.nextInt(animations.size());
+        int selected = nextAnimationIndex;
+        prewarmTask = PREWARM_EXECUTOR.submit(() -> prewarm(selected));
+    }
+
+    /**
+     * Stops pre-rendering frames; frames that are already rendered stay cached
+     */
+    public static void cancelPrewarm() {
+        if (prewarmTask != null) {
+            prewarmTask.cancel(true);
+            prewarmTask = null;
+        }
+    }
+
+    private static void prewarm(int selected) {
+        // Frames of the punishments picked in earlier games won't be shown again
+        // soon; drop them so they don't take the room of the next one
+        synchronized (frameCache) {
+            frameCache.keySet().removeIf(key -> {
+                int animation = (int) (key >> 32);
+                return animation != ROULETTE && animation != selected;
+            });
+        }
+
+        // Roulette frames are shown before the punishment, so render them first
+        for (int frame = 1; frame < ROULETTE_DURATION; frame++) {
+            if (!prewarmFrame(ROULETTE, frame)) return;
+        }
+        for (int frame = 0; frame < MAX_FRAMES; frame++) {
+            if (!prewarmFrame(selected, frame)) return;
+        }
+    }
+
+    private static boolean prewarmFrame(int animation, int frame) {
+        // Stop when cancelled, or when the cache is full rather than evict frames we just
+        // rendered; only the roulette and the selected punishment are left in it by now
+        if (Thread.currentThread().isInterrupted()) return false;
+        synchronized (frameCache) {
+            if (frameCache.containsKey(frameKey(animation, frame))) return true;
+            if (frameCache.size() >= MAX_CACHED_FRAMES) return false;
+        }
+        getFrame(animation, frame);
+        return true;
+    }
+
+    /**
+     * Drops every cached frame, e.g. to free the memory or to measure rendering
+     */
+    public static void clearFrameCache() {
+        synchronized (frameCache) {
+            frameCache.clear();
+        }
+    }
+
     /**
      * Resets the animation state to start a new animation sequence
      */
@@ -75,7 +186,7 @@ public class GameOutcome {
         // If we already have a finalized animation, just play that one
         if (animationFinalized && selectedAnimationIndex >= 0) {
             animationFrame = (animationFrame + 1) % MAX_FRAMES;
-            return animations.get(selectedAnimationIndex).renderFrame(animationFrame);
+            return getFrame(selectedAnimationIndex, animationFrame);
         }
 
         // Start roulette mode if we're at the beginning
@@ -92,26 +203,17 @@ public class GameOutcome {
             // Select the final animation when roulette ends
             if (rouletteFrame >= ROULETTE_DURATION) {
                 inRouletteMode = false;
-                selectedAnimationIndex = random.nextInt(animations.size());
+                selectedAnimationIndex = nextAnimationIndex >= 0
+                        ? nextAnimationIndex
+                        : random.nextInt(animations.size());
+                nextAnimationIndex = -1;
                 animationFrame = 0; // Reset to start the selected animation from beginning
                 animationFinalized = true; // Mark that we've selected our final animation
                 System.out.println("Selected punishment: " + animations.get(selectedAnimationIndex).getDescription());
-                return animations.get(selectedAnimationIndex).renderFrame(animationFrame);
+                return getFrame(selectedAnimationIndex, animationFrame);
             }
 
-            // During roulette, cycle through animations quickly
-            // Speed decreases as we approach the end for a "slowing down" effect
-            int cycleSpeed;
-            if (rouletteFrame < ROULETTE_DURATION / 3) {
-                cycleSpeed = 2; // Fast at first
-            } else if (rouletteFrame < ROULETTE_DURATION * 2 / 3) {
-                cycleSpeed = 4; // Medium speed
-            } else {
-                cycleSpeed = 8; // Slow at the end
-            }
-
-            int currentIndex = (rouletteFrame / cycleSpeed) % animations.size();
-            return renderRouletteFrame(currentIndex, rouletteFrame);
+            return getFrame(ROULETTE, rouletteFrame);
         }
 
         // This should not happen, but just in case
@@ -122,7 +224,67 @@ public class GameOutcome {
 
         // Normal animation playback after selection
         animationFrame = (animationFrame + 1) % MAX_FRAMES;
-        return animations.get(selectedAnimationIndex).renderFrame(animationFrame);
+        return getFrame(selectedAnimationIndex, animationFrame);
+    }
+
+    /**
+     * Gets a frame from the frame cache, rendering it if it is not cached
+     *
+     * @param animation The animation index, or ROULETTE for the roulette
+     * @param frame     The frame number
+     * @return The frame image, shared with later calls so it must not be modified
+     */
+    private static BufferedImage getFrame(int animation, int frame) {
+        long key = frameKey(animation, frame);
+        BufferedImage image;
+        synchronized (frameCache) {
+            image = frameCache.get(key);
+        }
+        if (image == null) {
+            // Rendered outside the lock; if both threads render a frame, either copy will do
+            image = animation == ROULETTE
+                    ? renderRouletteFrame(rouletteIndex(frame), frame)
+                    : animations.get(animation).renderFrame(frame);
+            synchronized (frameCache) {
+                frameCache.put(key, image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Gets a frame from the frame cache, or renders it without caching it
+     */
+    private static BufferedImage peekFrame(int animation, int frame) {
+        BufferedImage image;
+        synchronized (frameCache) {
+            image = frameCache.get(frameKey(animation, frame));
+        }
+        return image != null ? image : animations.get(animation).renderFrame(frame);
+    }
+
+    private static long frameKey(int animation, int frame) {
+        return ((long) animation << 32) | (frame & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the punishment shown in the middle of the roulette at a frame
+     *
+     * @param frame The frame number of the roulette animation
+     * @return The animation index
+     */
+    private static int rouletteIndex(int frame) {
+        // During roulette, cycle through animations quickly
+        // Speed decreases as we approach the end for a "slowing down" effect
+        int cycleSpeed;
+        if (frame < ROULETTE_DURATION / 3) {
+            cycleSpeed = 2; // Fast at first
+        } else if (frame < ROULETTE_DURATION * 2 / 3) {
+            cycleSpeed = 4; // Medium speed
+        } else {
+            cycleSpeed = 8; // Slow at the end
+        }
+        return (frame / cycleSpeed) % animations.size();
     }
 
     /**
@@ -179,7 +341,8 @@ public class GameOutcome {
         // Draw the visible animations in the slot machine window
         for (int i = 0; i < visibleAnimations + 1; i++) {
             int animIndex = (currentIndex + i) % animations.size();
-            BufferedImage animFrame = animations.get(animIndex).renderFrame(frame % MAX_FRAMES);
+            // Only used to compose this frame, so they don't take up cache space
+            BufferedImage animFrame = peekFrame(animIndex, frame % MAX_FRAMES);
 
             // Scale the animation to fit in the slot
             int targetWidth = WIDTH - 80;
@@ -195,7 +358,7 @@ public class GameOutcome {
 
                 // Draw the name of the animation
                 g2d.setColor(new Color(255, 255, 255));
-                g2d.setFont(new Font("Arial", Font.BOLD, 14));
+                g2d.setFont(Theme.font(Font.BOLD, 14));
                 String description = animations.get(animIndex).getDescription();
                 FontMetrics fm = g2d.getFontMetrics();
                 g2d.drawString(description, (WIDTH - fm.stringWidth(description)) / 2, y + targetHeight - 5);
@@ -247,18 +410,18 @@ public class GameOutcome {
             } else {
                 g2d.setColor(new Color(255, 255, 0, 150));
             }
-            g2d.setStroke(new BasicStroke(5));
+            g2d.setStroke(Theme.HEAVY_STROKE);
             g2d.drawRoundRect(20, 20, WIDTH - 40, HEIGHT - 40, 15, 15);
         }
 
         // Add "spinning" text at the top
-        g2d.setFont(new Font("Arial", Font.BOLD, 24));
+        g2d.setFont(Theme.font(Font.BOLD, 24));
         g2d.setColor(new Color(255, 50, 50));
         String spinText = "SELECTING PUNISHMENT";
 
         // Make the text pulse
         int pulseSize = (int) (Math.sin(frame * 0.2) * 4);
-        g2d.setFont(new Font("Arial", Font.BOLD, 24 + pulseSize));
+        g2d.setFont(Theme.font(Font.BOLD, 24 + pulseSize));
 
         FontMetrics fm = g2d.getFontMetrics();
         g2d.drawString(spinText, (WIDTH - fm.stringWidth(spinText)) / 2, 35);
@@ -293,7 +456,7 @@ public class GameOutcome {
             
             // Draw title
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "PHYSICAL LABOR";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 30);
@@ -303,7 +466,7 @@ public class GameOutcome {
             g2d.fillOval(20, 20, 30, 30);
             
             // Heat waves
-            g2d.setStroke(new BasicStroke(1.5f));
+            g2d.setStroke(Theme.FIELD_STROKE);
             for (int i = 0; i < 8; i++) {
                 double angle = Math.PI * 2 * i / 8;
                 int waveLength = 10 + (frame % 10);
@@ -349,7 +512,7 @@ public class GameOutcome {
             g2d.fillRect(personX + 5, personY + 20, 10, 30);
             
             // Arms showing labor
-            g2d.setStroke(new BasicStroke(3));
+            g2d.setStroke(Theme.THICK_STROKE);
             g2d.drawLine(personX + 10, personY + 25, personX - 5, personY + 35 + armOffset);
             g2d.drawLine(personX + 10, personY + 25, personX + 25, personY + 35 - armOffset);
             
@@ -366,7 +529,7 @@ public class GameOutcome {
             
             // Draw tools
             g2d.setColor(new Color(100, 100, 100));
-            g2d.setStroke(new BasicStroke(2));
+            g2d.setStroke(Theme.MEDIUM_STROKE);
             g2d.drawLine(personX - 5, personY + 35 + armOffset, personX - 15, personY + 55 + armOffset); // Pickaxe handle
             g2d.setColor(new Color(150, 150, 150));
             g2d.fillRect(personX - 20, personY + 50 + armOffset, 10, 5); // Pickaxe head
@@ -385,7 +548,7 @@ public class GameOutcome {
                     "You'll be digging until sunset"
             };
             
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(new Color(200, 0, 0));
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 20);
@@ -449,7 +612,7 @@ public class GameOutcome {
 
             // Draw laughter bubbles from audience
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 12));
+            g2d.setFont(Theme.font(Font.BOLD, 12));
             String[] laughs = {"HA!", "LOL", "HAHA", "OMG"};
             for (int i = 0; i < 5; i++) {
                 if ((frame + i * 10) % 60 < 30) { // Make them appear and disappear
@@ -471,7 +634,7 @@ public class GameOutcome {
                 double angle = Math.atan2(y2 - y1, x2 - x1);
 
                 // Draw pointing arm
-                g2d.setStroke(new BasicStroke(3));
+                g2d.setStroke(Theme.THICK_STROKE);
                 g2d.drawLine(x1, y1, x1 + (int) (Math.cos(angle) * 40), y1 + (int) (Math.sin(angle) * 40));
             }
 
@@ -485,7 +648,7 @@ public class GameOutcome {
             };
 
             g2d.setColor(new Color(255, 50, 50));
-            g2d.setFont(new Font("Arial", Font.BOLD, 18));
+            g2d.setFont(Theme.font(Font.BOLD, 18));
             String insult = insults[(frame / 12) % insults.length];
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(insult, (WIDTH - fm.stringWidth(insult)) / 2, 50);
@@ -522,7 +685,7 @@ public class GameOutcome {
 
             // Draw title
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "FINANCIAL RUIN";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 30);
@@ -564,7 +727,7 @@ public class GameOutcome {
             // Draw red "FORECLOSED" and "BANKRUPT" stamps
             if (frame % 60 < 30) {
                 g2d.setColor(new Color(200, 0, 0, 150));
-                g2d.setFont(new Font("Arial", Font.BOLD, 10));
+                g2d.setFont(Theme.font(Font.BOLD, 10));
                 g2d.rotate(Math.PI / 12, 90, 115);
                 g2d.drawString("FORECLOSED", 70, 115);
                 g2d.rotate(-Math.PI / 12, 90, 115);
@@ -582,13 +745,13 @@ public class GameOutcome {
 
             // Draw falling stock line
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setStroke(new BasicStroke(2));
+            g2d.setStroke(Theme.MEDIUM_STROKE);
             int[] xPoints = {180, 200, 220, 240, 260, 280};
             int[] yPoints = {70, 65, 80, 75, 90, 105};
             g2d.drawPolyline(xPoints, yPoints, 6);
 
             // Draw dollar signs that fade away
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
+            g2d.setFont(Theme.font(Font.BOLD, 16));
             for (int i = 0; i < 5; i++) {
                 int x = 50 + (i * 50);
                 int y = 50 + (i % 3) * 20;
@@ -608,7 +771,7 @@ public class GameOutcome {
                     "Your car has been repossessed"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(new Color(200, 0, 0));
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 20);
@@ -642,7 +805,7 @@ public class GameOutcome {
 
             // Draw title
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "SOCIAL REJECTION";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 30);
@@ -655,7 +818,7 @@ public class GameOutcome {
 
             // Draw X over profile
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setStroke(new BasicStroke(5));
+            g2d.setStroke(Theme.HEAVY_STROKE);
             g2d.drawLine(WIDTH / 2 - 30, 50, WIDTH / 2 + 30, 110);
             g2d.drawLine(WIDTH / 2 + 30, 50, WIDTH / 2 - 30, 110);
 
@@ -666,7 +829,7 @@ public class GameOutcome {
                 g2d.fillRoundRect(50, y, 200, 30, 10, 10);
 
                 g2d.setColor(Color.BLACK);
-                g2d.setFont(new Font("Arial", Font.PLAIN, 12));
+                g2d.setFont(Theme.font(Font.PLAIN, 12));
 
                 // Animate the unfriend messages
                 if (frame > i * 10) {
@@ -679,7 +842,7 @@ public class GameOutcome {
 
             // Draw decreasing friend count
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
+            g2d.setFont(Theme.font(Font.BOLD, 16));
             int friendCount = Math.max(0, 999 - frame * 7);
             g2d.drawString("Friends: " + friendCount, 50, 50);
 
@@ -687,12 +850,12 @@ public class GameOutcome {
             g2d.setColor(new Color(200, 0, 0));
             g2d.fillOval(WIDTH - 50, 20, 20, 20);
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.BOLD, 12));
+            g2d.setFont(Theme.font(Font.BOLD, 12));
             g2d.drawString("" + (frame % 50 + 10), WIDTH - 45, 35);
 
             // Draw blocked messages
             g2d.setColor(new Color(200, 0, 0, 150));
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
 
             // Animate the blocked messages
             String[] blockMessages = {
@@ -720,7 +883,7 @@ public class GameOutcome {
                     "You've been removed from all groups"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(Color.WHITE);
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 20);
@@ -739,6 +902,18 @@ public class GameOutcome {
      * Nightmare Sequence punishment animation
      */
     private static class NightmareSequence implements PunishmentAnimation {
+        // Title shake per frame, fixed so every frame renders the same each time
+        private static final int[] SHAKE_X = new int[MAX_FRAMES];
+        private static final int[] SHAKE_Y = new int[MAX_FRAMES];
+
+        static {
+            SplittableRandom shake = new SplittableRandom(MAX_FRAMES);
+            for (int i = 0; i < MAX_FRAMES; i++) {
+                SHAKE_X[i] = shake.nextInt(5) - 2;
+                SHAKE_Y[i] = shake.nextInt(5) - 2;
+            }
+        }
+
         @Override
         public BufferedImage renderFrame(int frame) {
             BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
@@ -756,15 +931,15 @@ public class GameOutcome {
 
             // Draw title with shaky effect
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "NIGHTMARE";
             FontMetrics fm = g2d.getFontMetrics();
             int titleX = (WIDTH - fm.stringWidth(title)) / 2;
             int titleY = 30;
 
             // Shake the title
-            int shakeX = random.nextInt(5) - 2;
-            int shakeY = random.nextInt(5) - 2;
+            int shakeX = SHAKE_X[frame % MAX_FRAMES];
+            int shakeY = SHAKE_Y[frame % MAX_FRAMES];
             g2d.drawString(title, titleX + shakeX, titleY + shakeY);
 
             // Draw creepy eyes that follow you
@@ -821,7 +996,7 @@ public class GameOutcome {
                     "You'll never wake up"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
+            g2d.setFont(Theme.font(Font.BOLD, 16));
 
             for (int i = 0; i < 2; i++) {
                 // Calculate alpha for fading
@@ -837,7 +1012,7 @@ public class GameOutcome {
 
             // Draw spiderwebs in corners
             g2d.setColor(new Color(200, 200, 200, 100));
-            g2d.setStroke(new BasicStroke(1));
+            g2d.setStroke(Theme.THIN_STROKE);
 
             // Top left web
             for (int i = 0; i < 8; i++) {
@@ -880,7 +1055,7 @@ public class GameOutcome {
 
             // Draw title
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "YOU'RE FIRED!";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 30);
@@ -898,7 +1073,7 @@ public class GameOutcome {
 
             // Draw angry eyebrows on boss
             g2d.setColor(new Color(0, 0, 0));
-            g2d.setStroke(new BasicStroke(2));
+            g2d.setStroke(Theme.MEDIUM_STROKE);
             g2d.drawLine(205, 100, 215, 105);
             g2d.drawLine(225, 100, 215, 105);
 
@@ -936,7 +1111,7 @@ public class GameOutcome {
             // Draw red "TERMINATED" stamp
             if (frame % 30 < 20) {
                 g2d.setColor(new Color(200, 0, 0, 180));
-                g2d.setFont(new Font("Arial", Font.BOLD, 10));
+                g2d.setFont(Theme.font(Font.BOLD, 10));
                 g2d.rotate(Math.PI / 12, 170, 115);
                 g2d.drawString("TERMINATED", 140, 115);
                 g2d.rotate(-Math.PI / 12, 170, 115);
@@ -944,14 +1119,14 @@ public class GameOutcome {
 
             // Draw pointing finger from boss
             g2d.setColor(new Color(200, 180, 160));
-            g2d.setStroke(new BasicStroke(3));
+            g2d.setStroke(Theme.THICK_STROKE);
             g2d.drawLine(215, 120, 170, 130);
 
             // Draw door with "EXIT" sign
             g2d.setColor(new Color(100, 70, 40));
             g2d.fillRect(20, 80, 40, 100);
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 12));
+            g2d.setFont(Theme.font(Font.BOLD, 12));
             g2d.drawString("EXIT", 25, 70);
 
             // Draw security guard by the door
@@ -968,7 +1143,7 @@ public class GameOutcome {
                     "Don't even ask for a reference"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(new Color(200, 0, 0));
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 20);
@@ -1000,19 +1175,19 @@ public class GameOutcome {
             g2d.setColor(new Color(40, 80, 40)); // Dark green
             g2d.fillRect(50, 30, 200, 100);
             g2d.setColor(new Color(60, 100, 60)); // Lighter green for border
-            g2d.setStroke(new BasicStroke(3));
+            g2d.setStroke(Theme.THICK_STROKE);
             g2d.drawRect(50, 30, 200, 100);
 
             // Draw title
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "ACADEMIC FAILURE";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 20);
 
             // Draw "F" grade on chalkboard
             g2d.setColor(new Color(255, 255, 255));
-            g2d.setFont(new Font("Arial", Font.BOLD, 60));
+            g2d.setFont(Theme.font(Font.BOLD, 60));
             g2d.drawString("F", 140, 100);
 
             // Draw circle around F
@@ -1063,7 +1238,7 @@ public class GameOutcome {
 
             // Draw red "F" on test paper
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(Theme.font(Font.BOLD, 20));
             g2d.drawString("F", 85, 150);
 
             // Draw classroom desks in background
@@ -1083,7 +1258,7 @@ public class GameOutcome {
                     "You'll be repeating this year"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(new Color(200, 0, 0));
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 10);
@@ -1117,7 +1292,7 @@ public class GameOutcome {
 
             // Draw title
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(Theme.font(Font.BOLD, 24));
             String title = "RELATIONSHIP OVER";
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(title, (WIDTH - fm.stringWidth(title)) / 2, 30);
@@ -1139,7 +1314,7 @@ public class GameOutcome {
 
             // Draw crack between heart halves
             g2d.setColor(new Color(30, 0, 50)); // Background color for crack
-            g2d.setStroke(new BasicStroke(3));
+            g2d.setStroke(Theme.THICK_STROKE);
 
             // Jagged crack
             int[] xPoints = {150, 145, 155, 145, 155, 150};
@@ -1160,7 +1335,7 @@ public class GameOutcome {
             g2d.fillRect(rightPersonX + 5, 170, 10, 30); // body
 
             // Draw text messages between them that fade
-            g2d.setFont(new Font("Arial", Font.PLAIN, 10));
+            g2d.setFont(Theme.font(Font.PLAIN, 10));
 
             // Calculate alpha for fading
             int alpha1 = Math.max(0, 255 - (frame % 60) * 8);
@@ -1192,7 +1367,7 @@ public class GameOutcome {
 
             // Draw red X over photos
             g2d.setColor(new Color(200, 0, 0));
-            g2d.setStroke(new BasicStroke(2));
+            g2d.setStroke(Theme.MEDIUM_STROKE);
             g2d.drawLine(40, 80, 80, 110); // X on left photo
             g2d.drawLine(80, 80, 40, 110);
             g2d.drawLine(220, 80, 260, 110); // X on right photo
@@ -1207,7 +1382,7 @@ public class GameOutcome {
                     "They're telling everyone your secrets"
             };
 
-            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            g2d.setFont(Theme.font(Font.BOLD, 14));
             g2d.setColor(new Color(200, 0, 0));
             String message = messages[(frame / 12) % messages.length];
             g2d.drawString(message, (WIDTH - g2d.getFontMetrics().stringWidth(message)) / 2, HEIGHT - 20);
@@ -0,0 +1,106 @@
+package com.cardgame.view.components;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * Finds the area under the pointer without testing every area on screen.
+ * The screen is split into a uniform grid of square cells and every area
+ * is listed in the cells it overlaps, so a lookup only looks at the few
+ * areas sharing the pointer's cell. Rebuild it when the layout changes.
+ */
+public class HitGrid {
+    private static final int INITIAL_CELL_CAPACITY = 2;
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Area indices listed per cell, in the order the areas were added
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    private Rectangle[] areas = new Rectangle[8];
+    private int[] ids = new int[8];
+    private int areaCount;
+
+    /**
+     * @param width The width of the screen
+     * @param height The height of the screen
+     * @param cellSize The width and height of a grid cell
+     */
+    public HitGrid(int width, int height, int cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Sizes must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    /**
+     * Removes every area.
+     */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(areas, 0, areaCount, null);
+        areaCount = 0;
+    }
+
+    /**
+     * Adds an area. Where areas overlap, the one added last wins.
+     *
+     * @param id The id returned by {@link #hitTest} for this area, not negative
+     * @param bounds The area; it is not copied, so re-add it if it moves
+     */
+    public void add(int id, Rectangle bounds) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must not be negative");
+        }
+        if (areaCount == areas.length) {
+            areas = Arrays.copyOf(areas, areaCount * 2);
+            ids = Arrays.copyOf(ids, areaCount * 2);
+        }
+        int index = areaCount++;
+        areas[index] = bounds;
+        ids[index] = id;
+
+        int firstColumn = Math.max(0, bounds.x / cellSize);
+        int lastColumn = Math.min(columns - 1, (bounds.x + bounds.width - 1) / cellSize);
+        int firstRow = Math.max(0, bounds.y / cellSize);
+        int lastRow = Math.min(rows - 1, (bounds.y + bounds.height - 1) / cellSize);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                if (cellCounts[cell] == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], cellCounts[cell] * 2);
+                }
+                cells[cell][cellCounts[cell]++] = index;
+            }
+        }
+    }
+
+    /**
+     * Finds the area containing a point.
+     *
+     * @return The id of the area, or -1 if there is none
+     */
+    public int hitTest(int x, int y) {
+        if (x < 0 || y < 0) return -1;
+        int column = x / cellSize;
+        int row = y / cellSize;
+        if (column >= columns || row >= rows) return -1;
+
+        int cell = row * columns + column;
+        int[] candidates = cells[cell];
+        for (int i = cellCounts[cell] - 1; i >= 0; i--) {
+            int index = candidates[i];
+            if (areas[index].contains(x, y)) {
+                return ids[index];
+            }
+        }
+        return -1;
+    }
+}
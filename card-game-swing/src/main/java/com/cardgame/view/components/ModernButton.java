@@ -0,0 +1,185 @@
+package com.cardgame.view.components;
+
+import com.cardgame.view.Theme;
+
+import javax.swing.JComponent;
+import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+public class ModernButton extends JComponent {
+    // Changed on the game thread, drawn on the render thread
+    private volatile String text;
+    private volatile boolean hovered;
+    private volatile boolean pressed;
+    private Color normalColor = Theme.BUTTON;
+    private Color hoverColor = Theme.BUTTON_HOVER;
+    private Color pressedColor = Theme.BUTTON_PRESSED;
+    private Color textColor = Theme.TEXT;
+    private int cornerRadius = 10;
+
+    // The button is drawn once per state into an image that is kept until the
+    // text or size changes, so rendering a frame is a single image copy.
+    // Only used from the rendering thread.
+    private static final int NORMAL = 0;
+    private static final int HOVERED = 1;
+    private static final int PRESSED = 2;
+    private static final int SHADOW_OFFSET = 2;
+    private static final int IMAGE_MARGIN = 1; // room for the border stroke
+    private final BufferedImage[] stateImages = new BufferedImage[PRESSED + 1];
+    private String imageText;
+    private int imageWidth;
+    private int imageHeight;
+
+    public ModernButton(String text) {
+        this.text = text;
+        this.hovered = false;
+        this.pressed = false;
+        setOpaque(false);
+    }
+
+    /**
+     * @return true if the text changed and the button needs repainting
+     */
+    public boolean setText(String text) {
+        if (!this.text.equals(text)) {
+            this.text = text;
+            repaint();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the hover state changed and the button needs repainting
+     */
+    public boolean setHovered(boolean hovered) {
+        if (this.hovered != hovered) {
+            this.hovered = hovered;
+            repaint();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the pressed state changed and the button needs repainting
+     */
+    public boolean setPressed(boolean pressed) {
+        if (this.pressed != pressed) {
+            this.pressed = pressed;
+            repaint();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        render(g, 0, 0, getWidth(), getHeight());
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isHovered() {
+        return hovered;
+    }
+
+    public boolean isPressed() {
+        return pressed;
+    }
+
+    public void render(Graphics g, int x, int y, int width, int height) {
+        render(g, x, y, width, height, text, hovered, pressed);
+    }
+
+    /**
+     * Renders the button with the given text and state instead of its
+     * current ones, e.g. those captured together in a frame snapshot.
+     */
+    public void render(Graphics g, int x, int y, int width, int height, String text, boolean hovered, boolean pressed) {
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        // Throw the images away when the text or size changes
+        if (!text.equals(imageText) || width != imageWidth || height != imageHeight) {
+            Arrays.fill(stateImages, null);
+            imageText = text;
+            imageWidth = width;
+            imageHeight = height;
+        }
+
+        int state = pressed ? PRESSED : hovered ? HOVERED : NORMAL;
+        BufferedImage image = stateImages[state];
+        if (image == null) {
+            image = renderState(g2d, text, width, height, state);
+            stateImages[state] = image;
+        }
+        g2d.drawImage(image, x - IMAGE_MARGIN, y - IMAGE_MARGIN, null);
+    }
+
+    /**
+     * Draws the button in one state into a new image, with room around it
+     * for the shadow and the border stroke.
+     */
+    private BufferedImage renderState(Graphics2D target, String text, int width, int height, int state) {
+        BufferedImage image = target.getDeviceConfiguration().createCompatibleImage(
+                width + SHADOW_OFFSET + 2 * IMAGE_MARGIN, height + SHADOW_OFFSET + 2 * IMAGE_MARGIN,
+                Transparency.TRANSLUCENT);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHints(target.getRenderingHints());
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int x = IMAGE_MARGIN;
+        int y = IMAGE_MARGIN;
+
+        // Create button shape
+        RoundRectangle2D.Float shape = new RoundRectangle2D.Float(x, y, width, height, cornerRadius, cornerRadius);
+
+        // Draw shadow
+        g2d.setColor(Theme.SHADOW_LIGHT);
+        g2d.fill(new RoundRectangle2D.Float(x + SHADOW_OFFSET, y + SHADOW_OFFSET, width, height,
+                cornerRadius, cornerRadius));
+
+        // Set button color based on state
+        Color buttonColor;
+        if (state == PRESSED) {
+            buttonColor = pressedColor;
+        } else if (state == HOVERED) {
+            buttonColor = hoverColor;
+        } else {
+            buttonColor = normalColor;
+        }
+
+        // Draw button background
+        g2d.setColor(buttonColor);
+        g2d.fill(shape);
+
+        // Draw button border
+        g2d.setColor(buttonColor.darker());
+        g2d.setStroke(Theme.THIN_STROKE);
+        g2d.draw(shape);
+
+        // Draw text
+        g2d.setColor(textColor);
+        g2d.setFont(Theme.BODY_BOLD_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        int textX = x + (width - fm.stringWidth(text)) / 2;
+        int textY = y + ((height - fm.getHeight()) / 2) + fm.getAscent();
+        g2d.drawString(text, textX, textY);
+
+        // Draw highlight effect
+        if (state == HOVERED) {
+            g2d.setComposite(Theme.BUTTON_HIGHLIGHT);
+            g2d.setColor(Color.WHITE);
+            g2d.fill(shape);
+        }
+        g2d.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cardgame.view.sprites;
+
+import com.cardgame.model.card.Card;
+
+import java.awt.Graphics;
+
+/**
+ * Draws cards on screen. Cards themselves know nothing about rendering,
+ * so the engine can run without AWT.
+ */
+public final class CardRenderer {
+    private CardRenderer() {
+    }
+
+    /**
+     * Draws a card, face up or down as the card says, from the pre-rendered
+     * sprites in {@link CardSpriteAtlas}.
+     */
+    public static void render(Graphics g, Card card, int x, int y, int width, int height) {
+        render(g, card, false, x, y, width, height);
+    }
+
+    /**
+     * Draws a card, optionally highlighted, from the pre-rendered sprites in
+     * {@link CardSpriteAtlas}.
+     */
+    public static void render(Graphics g, Card card, boolean highlighted, int x, int y, int width, int height) {
+        CardSpriteAtlas.draw(g, card.getCode(), card.isFaceUp(), highlighted, x, y, width, height);
+    }
+}
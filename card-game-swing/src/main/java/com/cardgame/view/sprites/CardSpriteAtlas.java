@@ -0,0 +1,189 @@
+package com.cardgame.view.sprites;
+
+import com.cardgame.model.card.Card.CardColor;
+import com.cardgame.model.card.CardCode;
+import com.cardgame.view.CardPalette;
+import com.cardgame.view.Theme;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered card images, so drawing a card is a single image copy
+ * instead of shapes, strokes and text every frame.
+ *
+ * Every card size gets one atlas sheet with a cell for each combination of
+ * card, face and highlight. Cells are rasterized the first time they are
+ * drawn and reused afterwards. Only use it from the rendering thread.
+ */
+public final class CardSpriteAtlas {
+    // Space around a card for the highlight glow and the border stroke
+    private static final int MARGIN = 3;
+
+    // Cell columns hold the card value (0-9, then special), rows the color;
+    // the last row holds the card backs
+    private static final int COLUMNS = CardCode.SPECIAL_VALUE + 1;
+    private static final int COLOR_ROWS = CardColor.values().length;
+    private static final int ROWS = COLOR_ROWS + 1;
+    private static final int HIGHLIGHT_LAYERS = 2;
+
+    private static final Font FACE_FONT = Theme.LARGE_FONT;
+    private static final Stroke BORDER_STROKE = Theme.MEDIUM_STROKE;
+    private static final Color HIGHLIGHT_COLOR = Theme.HIGHLIGHT;
+    private static final Color TEXT_SHADOW_COLOR = Theme.SHADOW_LIGHT;
+    private static final Color BACK_COLOR = Theme.PANEL;
+    private static final Color BACK_PATTERN_COLOR = Theme.BACKGROUND;
+
+    // Sheets by card size packed as width << 32 | height
+    private static final Map<Long, Sheet> SHEETS = new HashMap<>();
+    // Cards are nearly always drawn at one size, so the last sheet is checked first without touching the map
+    private static Sheet lastSheet;
+
+    private CardSpriteAtlas() {
+    }
+
+    /**
+     * Draws a card, rendering its sprite first if this is the first time it is drawn at this size.
+     *
+     * @param g The graphics context
+     * @param code The card code, see {@link CardCode}
+     * @param faceUp Whether the card is shown face up
+     * @param highlighted Whether the card is highlighted
+     * @param x The left edge of the card
+     * @param y The top edge of the card
+     * @param width The card width
+     * @param height The card height
+     */
+    public static void draw(Graphics g, int code, boolean faceUp, boolean highlighted,
+                            int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+
+        Sheet sheet = lastSheet;
+        if (sheet == null || sheet.width != width || sheet.height != height) {
+            sheet = SHEETS.computeIfAbsent((long) width << 32 | height,
+                    size -> new Sheet(width, height, (Graphics2D) g));
+            lastSheet = sheet;
+        }
+
+        int column = faceUp ? CardCode.valueIndex(code) : 0;
+        int row = faceUp ? CardCode.colorIndex(code) : COLOR_ROWS;
+        int layer = highlighted ? 1 : 0;
+        sheet.draw(g, column, row, layer, code, faceUp, highlighted, x - MARGIN, y - MARGIN);
+    }
+
+    /**
+     * Drops every rendered sprite, e.g. after the display configuration changed.
+     */
+    public static void clear() {
+        for (Sheet sheet : SHEETS.values()) {
+            sheet.image.flush();
+        }
+        SHEETS.clear();
+        lastSheet = null;
+    }
+
+    private static final class Sheet {
+        private final int width;
+        private final int height;
+        private final int cellWidth;
+        private final int cellHeight;
+        private final BufferedImage image;
+        private final boolean[] rendered = new boolean[COLUMNS * ROWS * HIGHLIGHT_LAYERS];
+
+        Sheet(int width, int height, Graphics2D target) {
+            this.width = width;
+            this.height = height;
+            this.cellWidth = width + 2 * MARGIN;
+            this.cellHeight = height + 2 * MARGIN;
+
+            int sheetWidth = cellWidth * COLUMNS * HIGHLIGHT_LAYERS;
+            int sheetHeight = cellHeight * ROWS;
+            // A compatible image can be kept in video memory by the screen's pipeline
+            GraphicsConfiguration config = target.getDeviceConfiguration();
+            this.image = config != null
+                    ? config.createCompatibleImage(sheetWidth, sheetHeight, Transparency.TRANSLUCENT)
+                    : new BufferedImage(sheetWidth, sheetHeight, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        void draw(Graphics g, int column, int row, int layer, int code,
+                  boolean faceUp, boolean highlighted, int dx, int dy) {
+            int cell = (row * COLUMNS + column) * HIGHLIGHT_LAYERS + layer;
+            int sx = (column * HIGHLIGHT_LAYERS + layer) * cellWidth;
+            int sy = row * cellHeight;
+
+            if (!rendered[cell]) {
+                Graphics2D sprite = image.createGraphics();
+                try {
+                    sprite.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                    sprite.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                    sprite.clipRect(sx, sy, cellWidth, cellHeight);
+                    paintCard(sprite, code, faceUp, highlighted, sx + MARGIN, sy + MARGIN, width, height);
+                } finally {
+                    sprite.dispose();
+                }
+                rendered[cell] = true;
+            }
+
+            g.drawImage(image, dx, dy, dx + cellWidth, dy + cellHeight,
+                    sx, sy, sx + cellWidth, sy + cellHeight, null);
+        }
+    }
+
+    private static void paintCard(Graphics2D g2d, int code, boolean faceUp, boolean highlighted,
+                                  int x, int y, int width, int height) {
+        // Draw shadow if highlighted
+        if (highlighted) {
+            g2d.setColor(HIGHLIGHT_COLOR);
+            g2d.fillRoundRect(x - 2, y - 2, width + 4, height + 4, 15, 15);
+        }
+
+        // Draw card face or back
+        if (faceUp) {
+            CardColor color = CardCode.color(code);
+
+            // Card face
+            g2d.setColor(Color.WHITE);
+            g2d.fillRoundRect(x, y, width, height, 10, 10);
+
+            // Card border
+            g2d.setColor(CardPalette.colorOf(color));
+            g2d.setStroke(BORDER_STROKE);
+            g2d.drawRoundRect(x, y, width, height, 10, 10);
+
+            // Draw card content
+            g2d.setFont(FACE_FONT);
+            String display = CardCode.isSpecial(code) ? specialText(color) : String.valueOf(CardCode.value(code));
+            FontMetrics fm = g2d.getFontMetrics();
+            int textX = x + (width - fm.stringWidth(display)) / 2;
+            int textY = y + (height + fm.getAscent() - fm.getDescent()) / 2;
+
+            // Draw text shadow
+            g2d.setColor(TEXT_SHADOW_COLOR);
+            g2d.drawString(display, textX + 1, textY + 1);
+
+            // Draw text
+            g2d.setColor(CardPalette.colorOf(color));
+            g2d.drawString(display, textX, textY);
+        } else {
+            // Card back
+            g2d.setColor(BACK_COLOR);
+            g2d.fillRoundRect(x, y, width, height, 10, 10);
+
+            // Pattern on back
+            g2d.setColor(BACK_PATTERN_COLOR);
+            g2d.setStroke(BORDER_STROKE);
+            g2d.drawRoundRect(x + 10, y + 10, width - 20, height - 20, 5, 5);
+        }
+    }
+
+    private static String specialText(CardColor color) {
+        return switch (color) {
+            case RED -> "SKIP";
+            case BLUE -> "DRAW";
+            case GREEN -> "REV";
+            case GOLD -> "WILD";
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.cardgame;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseEvent;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputQueueTest {
+    private static final Component SOURCE = new Canvas();
+
+    @Test
+    void capacityMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new InputQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new InputQueue(3));
+    }
+
+    @Test
+    void fullQueueDropsNewEvents() {
+        InputQueue queue = new InputQueue(4);
+        InputEvent[] events = new InputEvent[4];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = event(i);
+            assertTrue(queue.offer(events[i]));
+        }
+        assertFalse(queue.offer(event(4)));
+
+        for (InputEvent expected : events) {
+            assertSame(expected, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.offer(event(5)));
+    }
+
+    @Test
+    void consumerSeesEveryEventInOrder() throws InterruptedException {
+        int count = 200_000;
+        // Small enough that the producer keeps running into a full queue
+        InputQueue queue = new InputQueue(16);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    InputEvent event = event(i);
+                    while (!queue.offer(event)) {
+                        Thread.yield();
+                    }
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        }, "producer");
+        producer.start();
+
+        for (int expected = 0; expected < count; ) {
+            InputEvent event = queue.poll();
+            if (event == null) {
+                assertNull(failure.get());
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected, event.getWhen());
+            expected++;
+        }
+        producer.join();
+
+        assertNull(failure.get());
+        assertNull(queue.poll());
+    }
+
+    /**
+     * An event numbered through its timestamp.
+     */
+    private static InputEvent event(long sequence) {
+        return new MouseEvent(SOURCE, MouseEvent.MOUSE_MOVED, sequence, 0, 0, 0, 0, false);
+    }
+}
@@ -0,0 +1,123 @@
+package com.cardgame.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    // Larger than every value a test asks about, so percentiles aren't capped by the maximum
+    private static final long LARGE = 1L << 30;
+
+    @Test
+    void valuesBelow64AreExact() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, medianWithLargeValue(value));
+        }
+    }
+
+    @Test
+    void bucketsDoubleInWidthFrom64() {
+        assertEquals(63, medianWithLargeValue(63));
+        // 64 and 65 share the first two-wide bucket
+        assertEquals(65, medianWithLargeValue(64));
+        assertEquals(65, medianWithLargeValue(65));
+        assertEquals(67, medianWithLargeValue(66));
+        assertEquals(127, medianWithLargeValue(127));
+        // 128 starts the first four-wide bucket
+        assertEquals(131, medianWithLargeValue(128));
+    }
+
+    @Test
+    void largeValuesAreWithinThreePercent() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(64, LARGE);
+            long reported = medianWithLargeValue(value);
+            assertTrue(reported >= value, () -> value + " reported as " + reported);
+            assertTrue(reported - value <= value / 32, () -> value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    void percentilesNeverExceedTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        assertEquals(1_000_001, histogram.getValueAtPercentile(50));
+        assertEquals(1_000_001, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getMaxValue());
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals((1L << 40) - 1, histogram.getMaxValue());
+        assertEquals((1L << 40) - 1, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    @Test
+    void addCombinesBothHistograms() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (long value = 1; value <= 10; value++) {
+            first.record(value);
+            second.record(value + 10);
+        }
+
+        first.add(second);
+
+        assertEquals(20, first.getTotalCount());
+        assertEquals(20, first.getMaxValue());
+        assertEquals(10.5, first.getMean());
+        assertEquals(10, first.getValueAtPercentile(50));
+        assertEquals(20, first.getValueAtPercentile(100));
+        // The other histogram is left as it was
+        assertEquals(10, second.getTotalCount());
+    }
+
+    @Test
+    void resetForgetsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(LARGE);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMaxValue());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+
+        histogram.record(7);
+        assertEquals(7, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Records a value and a larger one, and reads the value back as the
+     * median, i.e. as the top of the bucket it landed in.
+     */
+    private static long medianWithLargeValue(long value) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+        histogram.record(LARGE);
+        return histogram.getValueAtPercentile(50);
+    }
+}